@@ -24,6 +24,9 @@ public final class Constants {
   public static final String RESILIENCE_4J_VERSION = "2.2.0";
   public static final String BIN_STASH_VERSION = "1.2.6";
   public static final String SPRING_DOC_OPENAPI_VERSION = "2.6.0";
+  public static final String DISRUPTOR_VERSION = "4.0.0";
+  public static final String MAPSTRUCT_VERSION = "1.6.3";
+  public static final String LOMBOK_MAPSTRUCT_BINDING_VERSION = "0.2.0";
   // gradle plugins
   public static final String JACOCO_VERSION = "0.8.12";
   public static final String SONAR_VERSION = "5.1.0.4882";
@@ -31,6 +34,7 @@ public final class Constants {
   public static final String PLUGIN_VERSION = "3.20.2";
   public static final String DEPENDENCY_CHECK_VERSION = "11.1.0";
   public static final String PITEST_VERSION = "1.15.0";
+  public static final String GRAALVM_NATIVE_VERSION = "0.10.3";
   // custom
   public static final String GRADLE_WRAPPER_VERSION = "8.11";
 
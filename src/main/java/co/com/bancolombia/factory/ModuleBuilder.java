@@ -88,6 +88,9 @@ public class ModuleBuilder {
     params.put("projectNameLower", getProject().getName().toLowerCase());
     params.put("lombok", isEnableLombok());
     params.put("metrics", withMetrics());
+    params.put("native", withNative());
+    params.put("crac", withCrac());
+    params.put("virtual-threads", withVirtualThreads());
     addConstantsFromClassToModuleBuilder(this, Constants.class);
     loadPackage();
     loadIsExample();
@@ -293,6 +296,12 @@ public class ModuleBuilder {
     }
   }
 
+  public boolean existsFile(String path) {
+    String finalPath = FileUtils.toRelative(path);
+    return files.containsKey(finalPath)
+        || FileUtils.exists(project.getProjectDir().getPath(), finalPath);
+  }
+
   public void removeDir(String path) {
     if (path != null) {
       this.dirsToDelete.add(path);
@@ -332,6 +341,18 @@ public class ModuleBuilder {
     return getABooleanProperty("mutation", false);
   }
 
+  public boolean withNative() {
+    return getABooleanProperty("native", false);
+  }
+
+  public boolean withCrac() {
+    return getABooleanProperty("crac", false);
+  }
+
+  public boolean withVirtualThreads() {
+    return getABooleanProperty("virtualThreads", false);
+  }
+
   @SafeVarargs
   public final <T extends Validation> void runValidations(Class<T>... validations)
       throws ValidationException {
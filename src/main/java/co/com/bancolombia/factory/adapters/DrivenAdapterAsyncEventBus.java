@@ -10,10 +10,29 @@ import co.com.bancolombia.factory.validations.ReactiveTypeValidation;
 import java.io.IOException;
 
 public class DrivenAdapterAsyncEventBus implements ModuleFactory {
+  public static final String PARAM_OUTBOX = "include-outbox";
+
   @Override
   public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
     builder.runValidations(ReactiveTypeValidation.class);
     builder.setupFromTemplate("driven-adapter/async-event-bus");
+    if (builder.getBooleanParam(PARAM_OUTBOX)) {
+      builder
+          .getProject()
+          .getLogger()
+          .lifecycle(
+              "The outbox uses the r2dbc connection factory, generate it with --type r2dbc and"
+                  + " create its table with outbox.sql");
+      builder.setupFromTemplate("driven-adapter/async-event-bus/outbox");
+      builder
+          .appendToProperties("adapters.outbox")
+          .put("batchSize", 100)
+          .put("maxConcurrency", 16)
+          .put("maxAttempts", 10)
+          .put("pollInterval", "500ms")
+          .put("claimTimeout", "1m")
+          .put("retention", "7d");
+    }
     builder.appendToSettings("async-event-bus", "infrastructure/driven-adapters");
     String dependency = buildImplementationFromProject(":async-event-bus");
     builder.appendDependencyToModule(APP_SERVICE, dependency);
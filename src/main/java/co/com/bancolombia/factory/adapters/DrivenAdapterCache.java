@@ -0,0 +1,166 @@
+package co.com.bancolombia.factory.adapters;
+
+import co.com.bancolombia.exceptions.CleanException;
+import co.com.bancolombia.exceptions.ValidationException;
+import co.com.bancolombia.factory.ModuleBuilder;
+import co.com.bancolombia.factory.ModuleFactory;
+import co.com.bancolombia.factory.commons.GatewayInterface;
+import co.com.bancolombia.utils.FileUtils;
+import co.com.bancolombia.utils.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Cache-aside decorator for a model gateway, generated in the bin-stash module so it uses the
+// configured local, centralized or hybrid ObjectCache
+public class DrivenAdapterCache implements ModuleFactory {
+  public static final String PARAM_GATEWAY = "task-param-gateway";
+  private static final String MODEL_SOURCES = "domain/model/src/main/java";
+  private static final String BIN_STASH_BUILD =
+      "infrastructure/driven-adapters/bin-stash/build.gradle";
+  private static final String DEFAULT_TTL = "300s";
+  private static final String VERSION_TTL = "1d";
+  private static final Pattern READ =
+      Pattern.compile("^(get|find|read|load|fetch|search|count|exists)");
+  private static final Pattern MONO = Pattern.compile("^Mono<(.+)>$");
+  private static final Pattern FLUX = Pattern.compile("^Flux<(.+)>$");
+  private static final Pattern OPTIONAL = Pattern.compile("^Optional<(.+)>$");
+  private static final List<String> DECORATOR_IMPORTS =
+      Arrays.asList("reactor.core.publisher.Flux", "reactor.core.publisher.Mono");
+  private static final Map<String, String> BOXED =
+      Map.of(
+          "boolean", "Boolean",
+          "int", "Integer",
+          "long", "Long",
+          "double", "Double",
+          "float", "Float",
+          "short", "Short",
+          "byte", "Byte",
+          "char", "Character");
+
+  @Override
+  public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
+    String gateway = builder.getStringParam(PARAM_GATEWAY);
+    if (gateway == null || gateway.isEmpty()) {
+      throw new IllegalArgumentException(
+          "No gateway is set, usage: gradle generateDrivenAdapter --type cache --gateway [name]");
+    }
+    GatewayInterface source = GatewayInterface.parse(gateway, readGateway(builder, gateway));
+
+    if (!builder.existsFile(BIN_STASH_BUILD)) {
+      new DrivenAdapterBinStash().buildModule(builder);
+    }
+    String gatewayVar = Utils.decapitalize(gateway);
+    List<Map<String, Object>> methods =
+        source.getMethods().stream().map(DrivenAdapterCache::toMethod).collect(Collectors.toList());
+    builder.addParam("gateway-name", gateway);
+    builder.addParam("gateway-var", gatewayVar);
+    builder.addParam("gateway-import", source.getPackageName() + "." + gateway);
+    builder.addParam("gateway-package", source.getPackageName());
+    builder.addParam(
+        "gateway-imports",
+        source.getImports().stream()
+            .filter(type -> !DECORATOR_IMPORTS.contains(type))
+            .collect(Collectors.toList()));
+    builder.addParam("gateway-methods", methods);
+    builder.setupFromTemplate("driven-adapter/cache");
+
+    builder.updateFile(
+        BIN_STASH_BUILD,
+        content -> {
+          String result =
+              Utils.addDependency(content, "implementation 'io.projectreactor:reactor-core'");
+          result =
+              Utils.addDependency(result, "implementation 'org.springframework.boot:spring-boot'");
+          if (builder.withMetrics()) {
+            result =
+                Utils.addDependency(result, "implementation 'io.micrometer:micrometer-core'");
+          }
+          return result;
+        });
+
+    builder.appendToProperties("adapters.cache").put("defaultTtl", DEFAULT_TTL);
+    builder.appendToProperties("adapters.cache").put("versionTtl", VERSION_TTL);
+    for (Map<String, Object> method : methods) {
+      if (method.get("read-cached") != null) {
+        builder
+            .appendToProperties("adapters.cache.ttl." + gatewayVar)
+            .put((String) method.get("name"), DEFAULT_TTL);
+      }
+    }
+  }
+
+  private static String readGateway(ModuleBuilder builder, String gateway)
+      throws IOException, ValidationException {
+    List<File> found = new ArrayList<>();
+    FileUtils.allFiles(
+        builder.getProject().file(MODEL_SOURCES),
+        found::add,
+        (dir, name) -> name.equals(gateway + ".java"));
+    if (found.isEmpty()) {
+      throw new ValidationException(
+          "Gateway " + gateway + " not found in " + MODEL_SOURCES + ", generate it first");
+    }
+    return Files.readString(found.get(0).toPath());
+  }
+
+  // read methods returning one value are cached, collections and streams are delegated as is,
+  // any other method starts a new version of the gateway entries once the delegate completes
+  private static Map<String, Object> toMethod(GatewayInterface.Method method) {
+    String returnType = method.getReturnType();
+    Map<String, Object> result = new HashMap<>();
+    result.put("name", method.getName());
+    result.put("return-type", returnType);
+    result.put(
+        "params",
+        method.getParams().stream()
+            .map(param -> param.getType() + " " + param.getName())
+            .collect(Collectors.joining(", ")));
+    String args =
+        method.getParams().stream()
+            .map(GatewayInterface.Param::getName)
+            .collect(Collectors.joining(", "));
+    result.put("args", args);
+    result.put("key-args", args.isEmpty() ? "" : ", " + args);
+
+    boolean read = READ.matcher(method.getName()).find();
+    Matcher mono = MONO.matcher(returnType);
+    Matcher optional = OPTIONAL.matcher(returnType);
+    boolean reactive = mono.matches() || FLUX.matcher(returnType).matches();
+    if (read && mono.matches() && isCacheable(mono.group(1))) {
+      cached(result, "read-mono", mono.group(1));
+    } else if (read && optional.matches() && isCacheable(optional.group(1))) {
+      cached(result, "read-optional", optional.group(1));
+    } else if (read && !reactive && !"void".equals(returnType) && isCacheable(returnType)) {
+      cached(result, "read-value", BOXED.getOrDefault(returnType, returnType));
+    } else if (read && !"void".equals(returnType)) {
+      result.put("pass", true);
+    } else if (reactive) {
+      result.put("write-reactive", true);
+    } else if ("void".equals(returnType)) {
+      result.put("write-void", true);
+    } else {
+      result.put("write-value", true);
+    }
+    return result;
+  }
+
+  private static void cached(Map<String, Object> method, String kind, String type) {
+    method.put(kind, true);
+    method.put("read-cached", true);
+    method.put("cache-type", type);
+  }
+
+  // generic values would come back untyped from a centralized cache
+  private static boolean isCacheable(String type) {
+    return !type.contains("<") && !type.contains("[") && !"Void".equals(type);
+  }
+}
@@ -24,7 +24,11 @@ public class DrivenAdapterCognitoTokenProvider implements ModuleFactory {
         .appendToProperties("adapter.cognito")
         .put("secret", "<cognito-credentials-secret-name>")
         .put("timeout", 5000)
-        .put("endpoint", "https://<domain>.auth.<region>.amazoncognito.com/oauth2/token");
+        .put("endpoint", "https://<domain>.auth.<region>.amazoncognito.com/oauth2/token")
+        .put("refreshRatio", 0.75)
+        .put("failureThreshold", 3)
+        .put("openStateDuration", "30s")
+        .put("credentialsCacheTime", "1h");
 
     builder.appendToSettings("cognito-token-provider", "infrastructure/driven-adapters");
     String dependency = buildImplementationFromProject(":cognito-token-provider");
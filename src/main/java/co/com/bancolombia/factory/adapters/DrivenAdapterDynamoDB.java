@@ -7,6 +7,8 @@ import co.com.bancolombia.exceptions.CleanException;
 import co.com.bancolombia.factory.ModuleBuilder;
 import co.com.bancolombia.factory.ModuleFactory;
 import co.com.bancolombia.factory.commons.GenericModule;
+import co.com.bancolombia.factory.commons.MapStructMapper;
+import co.com.bancolombia.factory.commons.NativeHints;
 import co.com.bancolombia.factory.commons.ObjectMapperFactory;
 import java.io.IOException;
 
@@ -19,8 +21,17 @@ public class DrivenAdapterDynamoDB implements ModuleFactory {
 
     GenericModule.addAwsBom(builder);
     builder.appendToSettings("dynamo-db", "infrastructure/driven-adapters");
+    GenericModule.addAwsHttpClientHints(
+        builder, "infrastructure/driven-adapters/dynamo-db", builder.isReactive());
+    // TableSchema.fromBean introspects the adapter model
+    NativeHints.addGenericAdapter(
+        builder,
+        "infrastructure/driven-adapters/dynamo-db",
+        "dynamodb.DynamoDBTemplateAdapter",
+        "dynamodb.ModelEntity");
     String dependency = buildImplementationFromProject(":dynamo-db");
     builder.appendDependencyToModule(Constants.APP_SERVICE, dependency);
+    MapStructMapper.setup(builder, "dynamo-db", "dynamodb", "DynamoDBDataMapper", "ModelEntity");
     builder.setupFromTemplate("driven-adapter/" + typePath);
     builder.appendToProperties("aws.dynamodb").put("endpoint", "http://localhost:8000");
     new ObjectMapperFactory().buildModule(builder);
@@ -6,17 +6,25 @@ import static co.com.bancolombia.utils.Utils.buildImplementationFromProject;
 import co.com.bancolombia.exceptions.CleanException;
 import co.com.bancolombia.factory.ModuleBuilder;
 import co.com.bancolombia.factory.ModuleFactory;
+import co.com.bancolombia.factory.commons.MapStructMapper;
+import co.com.bancolombia.factory.commons.NativeHints;
 import co.com.bancolombia.factory.commons.ObjectMapperFactory;
+import co.com.bancolombia.factory.commons.VirtualThreads;
 import java.io.IOException;
 
 public class DrivenAdapterJPA implements ModuleFactory {
   @Override
   public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
 
+    MapStructMapper.unsupported(builder, "JPA");
     builder.setUpSecretsInAdapter();
 
     builder.setupFromTemplate("driven-adapter/jpa-repository");
     builder.appendToSettings("jpa-repository", "infrastructure/driven-adapters");
+    VirtualThreads.warnPinning(
+        builder, "jpa-repository", "JDBC drivers may block inside synchronized code");
+    NativeHints.addGenericAdapter(
+        builder, "infrastructure/driven-adapters/jpa-repository", "jpa.JPARepositoryAdapter");
     builder
         .appendToProperties("spring.datasource")
         .put("url", "jdbc:h2:mem:test")
@@ -26,6 +34,7 @@ public class DrivenAdapterJPA implements ModuleFactory {
     builder
         .appendToProperties("spring.jpa")
         .put("databasePlatform", "org.hibernate.dialect.H2Dialect");
+    builder.appendToProperties("adapters.jpa").put("batchSize", 50).put("fetchSize", 500);
     String dependency = buildImplementationFromProject(":jpa-repository");
     builder.appendDependencyToModule(APP_SERVICE, dependency);
 
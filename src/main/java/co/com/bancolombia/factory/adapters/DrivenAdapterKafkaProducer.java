@@ -0,0 +1,34 @@
+package co.com.bancolombia.factory.adapters;
+
+import static co.com.bancolombia.Constants.APP_SERVICE;
+import static co.com.bancolombia.utils.Utils.buildImplementationFromProject;
+
+import co.com.bancolombia.exceptions.CleanException;
+import co.com.bancolombia.factory.ModuleBuilder;
+import co.com.bancolombia.factory.ModuleFactory;
+import co.com.bancolombia.factory.validations.ReactiveTypeValidation;
+import java.io.IOException;
+
+public class DrivenAdapterKafkaProducer implements ModuleFactory {
+
+  @Override
+  public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
+    builder.runValidations(ReactiveTypeValidation.class);
+    builder.setupFromTemplate("driven-adapter/kafka-producer");
+    builder.appendToSettings("kafka-producer", "infrastructure/driven-adapters");
+    String dependency = buildImplementationFromProject(":kafka-producer");
+    builder.appendDependencyToModule(APP_SERVICE, dependency);
+
+    builder.appendToProperties("spring.kafka.producer").put("bootstrap-servers", "localhost:9092");
+    builder
+        .appendToProperties("adapters.kafka.producer")
+        .put("topic", "test")
+        .put("linger", "10ms")
+        .put("batchSize", 65536)
+        .put("compressionType", "lz4")
+        .put("acks", "all")
+        .put("idempotence", true)
+        .put("maxInFlightRequests", 5)
+        .put("maxInFlightRecords", 1024);
+  }
+}
@@ -11,6 +11,7 @@ import java.io.IOException;
 import org.gradle.api.logging.Logger;
 
 public class DrivenAdapterKms implements ModuleFactory {
+  public static final String PARAM_ENVELOPE = "include-envelope";
 
   @Override
   public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
@@ -21,6 +22,8 @@ public class DrivenAdapterKms implements ModuleFactory {
     GenericModule.addAwsBom(builder);
     builder.setupFromTemplate("driven-adapter/" + typePath);
     builder.appendToSettings("kms-repository", "infrastructure/driven-adapters");
+    GenericModule.addAwsHttpClientHints(
+        builder, "infrastructure/driven-adapters/kms-repository", true);
     builder
         .appendToProperties("adapters.aws.kms")
         .put("region", "us-east-1")
@@ -28,6 +31,14 @@ public class DrivenAdapterKms implements ModuleFactory {
         .put("protocol", "http")
         .put("port", "4566")
         .put("keyId", "add-your-key-here"); // implementation project('kms-repository')
+    if (builder.getBooleanParam(PARAM_ENVELOPE)) {
+      builder.setupFromTemplate("driven-adapter/" + typePath + "/envelope");
+      builder
+          .appendToProperties("adapters.aws.kms.envelope")
+          .put("maxMessagesPerKey", 10000)
+          .put("maxKeyAge", "5m")
+          .put("maxCachedKeys", 1000);
+    }
     String dependency = buildImplementationFromProject(":kms-repository");
     builder.appendDependencyToModule(APP_SERVICE, dependency);
     new DrivenAdapterSecrets().buildModule(builder);
@@ -6,6 +6,8 @@ import static co.com.bancolombia.utils.Utils.buildImplementationFromProject;
 import co.com.bancolombia.exceptions.CleanException;
 import co.com.bancolombia.factory.ModuleBuilder;
 import co.com.bancolombia.factory.ModuleFactory;
+import co.com.bancolombia.factory.commons.MapStructMapper;
+import co.com.bancolombia.factory.commons.NativeHints;
 import co.com.bancolombia.factory.commons.ObjectMapperFactory;
 import java.io.IOException;
 import org.gradle.api.logging.Logger;
@@ -14,6 +16,7 @@ public class DrivenAdapterMongoDB implements ModuleFactory {
   @Override
   public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
     Logger logger = builder.getProject().getLogger();
+    MapStructMapper.unsupported(builder, "MongoDB");
 
     builder.setUpSecretsInAdapter();
 
@@ -26,7 +29,13 @@ public class DrivenAdapterMongoDB implements ModuleFactory {
     }
 
     builder.appendToSettings("mongo-repository", "infrastructure/driven-adapters");
+    NativeHints.addGenericAdapter(
+        builder, "infrastructure/driven-adapters/mongo-repository", "mongo.MongoRepositoryAdapter");
     builder.appendToProperties("spring.data.mongodb").put("uri", "mongodb://localhost:27017/test");
+    builder
+        .appendToProperties("adapters.mongo")
+        .put("bulkChunkSize", 1000)
+        .put("cursorBatchSize", 500);
     String dependency = buildImplementationFromProject(":mongo-repository");
     builder.appendDependencyToModule(APP_SERVICE, dependency);
 
@@ -6,6 +6,8 @@ import static co.com.bancolombia.utils.Utils.buildImplementationFromProject;
 import co.com.bancolombia.exceptions.CleanException;
 import co.com.bancolombia.factory.ModuleBuilder;
 import co.com.bancolombia.factory.ModuleFactory;
+import co.com.bancolombia.factory.commons.MapStructMapper;
+import co.com.bancolombia.factory.commons.NativeHints;
 import co.com.bancolombia.factory.commons.ObjectMapperFactory;
 import co.com.bancolombia.factory.validations.ReactiveTypeValidation;
 import java.io.IOException;
@@ -17,11 +19,29 @@ public class DrivenAdapterR2dbc implements ModuleFactory {
   public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
     Logger logger = builder.getProject().getLogger();
     builder.runValidations(ReactiveTypeValidation.class);
+    MapStructMapper.unsupported(builder, "R2DBC");
     logger.lifecycle("Generating for reactive project");
     builder.setupFromTemplate("driven-adapter/r2dbc-postgresql");
+    if (builder.withCrac()) {
+      builder.addParam("crac-package", "r2dbc.config");
+      builder.setupFromTemplate("driven-adapter/r2dbc-postgresql/crac");
+    }
     String dependency = buildImplementationFromProject(":r2dbc-postgresql");
     builder.appendDependencyToModule(APP_SERVICE, dependency);
     builder.appendToSettings("r2dbc-postgresql", "infrastructure/driven-adapters");
+    NativeHints.addGenericAdapter(
+        builder,
+        "infrastructure/driven-adapters/r2dbc-postgresql",
+        "r2dbc.MyReactiveRepositoryAdapter");
+    builder
+        .appendToProperties("adapters.r2dbc.pool")
+        .put("initialSize", 12)
+        .put("maxSize", 15)
+        .put("maxIdleTime", "30m")
+        .put("maxLifeTime", "1h")
+        .put("maxAcquireTime", "5s")
+        .put("preparedStatementCacheQueries", 256);
+    builder.appendToProperties("adapters.r2dbc").put("batchSize", 500);
     new ObjectMapperFactory().buildModule(builder);
   }
 }
@@ -18,5 +18,32 @@ public class DrivenAdapterRSocket implements ModuleFactory {
     String dependency = buildImplementationFromProject(":rsocket-requester");
     builder.appendDependencyToModule(APP_SERVICE, dependency);
     builder.setupFromTemplate("driven-adapter/rsocket-requester");
+    if (builder.withMetrics()) {
+      builder.setupFromTemplate("driven-adapter/rsocket-requester/metrics");
+    }
+    builder
+        .appendToProperties("adapter.rsocket")
+        .put("strategy", "ROUND_ROBIN")
+        .put("lease", false)
+        .putArray("targets")
+        .addObject()
+        .put("host", "localhost")
+        .put("port", 7000);
+    builder
+        .appendToProperties("adapter.rsocket.reconnect")
+        .put("maxAttempts", 10)
+        .put("minBackoff", "100ms")
+        .put("maxBackoff", "5s");
+    builder
+        .appendToProperties("adapter.rsocket.resume")
+        .put("enabled", false)
+        .put("sessionDuration", "2m")
+        .put("streamTimeout", "10s")
+        .put("minBackoff", "100ms")
+        .put("maxBackoff", "5s");
+    builder
+        .appendToProperties("adapter.rsocket.keepAlive")
+        .put("interval", "20s")
+        .put("maxLifeTime", "90s");
   }
 }
@@ -7,12 +7,15 @@ import co.com.bancolombia.exceptions.CleanException;
 import co.com.bancolombia.exceptions.ValidationException;
 import co.com.bancolombia.factory.ModuleBuilder;
 import co.com.bancolombia.factory.ModuleFactory;
+import co.com.bancolombia.factory.commons.MapStructMapper;
+import co.com.bancolombia.factory.commons.NativeHints;
 import co.com.bancolombia.factory.commons.ObjectMapperFactory;
 import java.io.IOException;
 import org.gradle.api.logging.Logger;
 
 public class DrivenAdapterRedis implements ModuleFactory {
   public static final String PARAM_MODE = "task-param-mode";
+  public static final String PARAM_NEAR_CACHE = "include-near-cache";
 
   @Override
   public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
@@ -21,20 +24,43 @@ public class DrivenAdapterRedis implements ModuleFactory {
       throw new ValidationException(
           "This mode is only available for imperative projects, please use `template` mode");
     }
+    boolean nearCache = builder.getBooleanParam(PARAM_NEAR_CACHE);
+    if (nearCache && Mode.REPOSITORY == builder.getParam(PARAM_MODE)) {
+      throw new ValidationException("Near cache is only available in `template` mode");
+    }
+    if (Mode.TEMPLATE == builder.getParam(PARAM_MODE)) {
+      MapStructMapper.unsupported(builder, "Redis template");
+    }
     Logger logger = builder.getProject().getLogger();
     String typePath = getPathType(builder.isReactive());
-    String modePath = getPathMode((Mode) builder.getParam(PARAM_MODE));
+    Mode mode = (Mode) builder.getParam(PARAM_MODE);
+    String modePath = getPathMode(mode);
 
     builder.setUpSecretsInAdapter();
 
+    MapStructMapper.setup(builder, "redis", "redis.repository", "RedisDataMapper", "ModelDTO");
     logger.lifecycle("Generating {} in {} mode", typePath, modePath);
     builder.setupFromTemplate("driven-adapter/" + typePath + "/" + modePath);
     builder.appendToSettings("redis", "infrastructure/driven-adapters");
+    NativeHints.addGenericAdapter(
+        builder,
+        "infrastructure/driven-adapters/redis",
+        getAdapterType(builder.isReactive(), mode));
     if (Boolean.TRUE.equals(builder.getBooleanParam("include-secret"))) {
       builder.setupFromTemplate("driven-adapter/" + typePath + "/secret");
     } else {
       builder.appendToProperties("spring.redis").put("host", "localhost").put("port", 6379);
     }
+    if (nearCache) {
+      builder.addParam("reactive", builder.isReactive());
+      builder.setupFromTemplate("commons/redis-near-cache");
+      builder
+          .appendToProperties("adapter.redis.near-cache")
+          .put("maximumSize", 10000)
+          .put("ttl", "30s")
+          .put("invalidation", "tracking")
+          .put("channel", "near-cache:invalidate");
+    }
     String dependency = buildImplementationFromProject(":redis");
     builder.appendDependencyToModule(APP_SERVICE, dependency);
 
@@ -45,6 +71,15 @@ public class DrivenAdapterRedis implements ModuleFactory {
     return mode == Mode.REPOSITORY ? "redis-repository" : "redis-template";
   }
 
+  private String getAdapterType(boolean isReactive, Mode mode) {
+    if (mode == Mode.REPOSITORY) {
+      return "redis.repository.RedisRepositoryAdapter";
+    }
+    return isReactive
+        ? "redis.template.ReactiveRedisTemplateAdapter"
+        : "redis.template.RedisTemplateAdapter";
+  }
+
   protected String getPathType(boolean isReactive) {
     return isReactive ? "redis-reactive" : "redis";
   }
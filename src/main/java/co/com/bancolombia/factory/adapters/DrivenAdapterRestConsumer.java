@@ -7,12 +7,14 @@ import static co.com.bancolombia.utils.Utils.buildImplementationFromProject;
 import co.com.bancolombia.exceptions.CleanException;
 import co.com.bancolombia.factory.ModuleBuilder;
 import co.com.bancolombia.factory.ModuleFactory;
+import co.com.bancolombia.factory.commons.NativeHints;
 import co.com.bancolombia.utils.swagger.Swagger;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
 import org.gradle.api.logging.Logger;
 
 public class DrivenAdapterRestConsumer implements ModuleFactory {
+  public static final String PARAM_RESILIENCE = "include-resilience";
 
   @Override
   public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
@@ -20,15 +22,48 @@ public class DrivenAdapterRestConsumer implements ModuleFactory {
     if (Boolean.TRUE.equals(builder.isReactive())) {
       logger.lifecycle("Generating rest-consumer for reactive project");
       builder.setupFromTemplate("driven-adapter/consumer-rest/reactive-rest-consumer");
+      if (builder.withCrac()) {
+        builder.addParam("crac-package", "consumer.config");
+        builder.setupFromTemplate("driven-adapter/consumer-rest/reactive-rest-consumer/crac");
+      }
       String implementation =
           buildImplementation("org.springframework.boot:spring-boot-starter-webflux");
       builder.appendDependencyToModule(APP_SERVICE, implementation);
-      builder.appendToProperties("adapter.restconsumer").put("timeout", 5000);
+      builder
+          .appendToProperties("adapter.restconsumer")
+          .put("connectTimeout", "2s")
+          .put("readTimeout", "5s")
+          .put("writeTimeout", "5s")
+          .put("http2", false)
+          .put("compress", false);
+      builder
+          .appendToProperties("adapter.restconsumer.pool")
+          .put("maxConnections", 100)
+          .put("pendingAcquireMaxCount", 200)
+          .put("pendingAcquireTimeout", "2s")
+          .put("maxIdleTime", "30s")
+          .put("maxLifeTime", "5m")
+          .put("evictInBackground", "30s");
     } else {
       logger.lifecycle("Generating rest-consumer for imperative project");
       builder.setupFromTemplate("driven-adapter/consumer-rest/rest-consumer");
       String implementation = buildImplementation("com.fasterxml.jackson.core:jackson-databind");
       builder.appendDependencyToModule(APP_SERVICE, implementation);
+      builder
+          .appendToProperties("adapter.restconsumer")
+          .put("connectTimeout", "2s")
+          .put("readTimeout", "5s")
+          .put("writeTimeout", "5s")
+          .put("callTimeout", "10s")
+          .put("http2", false);
+      builder
+          .appendToProperties("adapter.restconsumer.dispatcher")
+          .put("maxRequests", 256)
+          .put("maxRequestsPerHost", 128);
+      builder
+          .appendToProperties("adapter.restconsumer.pool")
+          .put("maxIdleConnections", 50)
+          .put("keepAlive", "5m");
     }
     builder
         .appendToProperties("adapter.restconsumer")
@@ -37,12 +72,43 @@ public class DrivenAdapterRestConsumer implements ModuleFactory {
     withCircuitBreaker(builder.appendToProperties("resilience4j.circuitbreaker.instances.testGet"));
     withCircuitBreaker(
         builder.appendToProperties("resilience4j.circuitbreaker.instances.testPost"));
+    if (builder.getBooleanParam(PARAM_RESILIENCE)) {
+      withResilience(builder, "testGet");
+      withResilience(builder, "testPost");
+      builder.addParam("reactive", builder.isReactive());
+      builder.setupFromTemplate("driven-adapter/consumer-rest/hedging");
+      builder
+          .appendToProperties("adapter.restconsumer.hedging")
+          .put("percentile", 0.95)
+          .put("window", 100)
+          .put("minDelay", "20ms")
+          .put("maxDelay", "1s");
+    }
     builder.appendToSettings("rest-consumer", "infrastructure/driven-adapters");
     String dependency = buildImplementationFromProject(":rest-consumer");
     builder.appendDependencyToModule(APP_SERVICE, dependency);
+    String consumerPackage = builder.getStringParam("package") + ".consumer";
+    NativeHints.addReflection(
+        builder,
+        "infrastructure/driven-adapters/rest-consumer",
+        consumerPackage + ".ObjectRequest",
+        consumerPackage + ".ObjectResponse");
     Swagger.fromBuilder(builder, "infrastructure/driven-adapters/rest-consumer", false);
   }
 
+  // semaphore bulkhead and rate limiter that reject right away instead of queueing callers
+  private void withResilience(ModuleBuilder builder, String instance) throws IOException {
+    builder
+        .appendToProperties("resilience4j.bulkhead.instances." + instance)
+        .put("maxConcurrentCalls", 50)
+        .put("maxWaitDuration", "0ms");
+    builder
+        .appendToProperties("resilience4j.ratelimiter.instances." + instance)
+        .put("limitForPeriod", 100)
+        .put("limitRefreshPeriod", "1s")
+        .put("timeoutDuration", "0ms");
+  }
+
   private void withCircuitBreaker(ObjectNode instance) {
     instance
         .put("registerHealthIndicator", true)
@@ -21,6 +21,8 @@ public class DrivenAdapterS3 implements ModuleFactory {
     GenericModule.addAwsBom(builder);
     builder.setupFromTemplate("driven-adapter/" + typePath);
     builder.appendToSettings("s3-repository", "infrastructure/driven-adapters");
+    GenericModule.addAwsHttpClientHints(
+        builder, "infrastructure/driven-adapters/s3-repository", builder.isReactive());
     builder
         .appendToProperties("adapter.aws.s3")
         .put("bucketName", "test")
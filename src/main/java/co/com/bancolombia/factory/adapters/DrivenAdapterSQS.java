@@ -19,7 +19,12 @@ public class DrivenAdapterSQS implements ModuleFactory {
       template = "driven-adapter/sqs-reactive";
     }
     builder.setupFromTemplate(template);
+    if (builder.isReactive() && builder.withCrac()) {
+      builder.addParam("crac-package", "sqs.sender.config");
+      builder.setupFromTemplate("driven-adapter/sqs-reactive/crac");
+    }
     builder.appendToSettings("sqs-sender", "infrastructure/driven-adapters");
+    GenericModule.addAwsHttpClientHints(builder, "infrastructure/driven-adapters/sqs-sender", true);
     builder
         .appendToProperties("adapter.sqs")
         .put("region", "us-east-1")
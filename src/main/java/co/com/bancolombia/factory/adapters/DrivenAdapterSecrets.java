@@ -8,6 +8,7 @@ import co.com.bancolombia.exceptions.CleanException;
 import co.com.bancolombia.factory.ModuleBuilder;
 import co.com.bancolombia.factory.ModuleFactory;
 import co.com.bancolombia.factory.commons.GenericModule;
+import co.com.bancolombia.factory.commons.VirtualThreads;
 import java.io.IOException;
 import org.gradle.api.logging.Logger;
 
@@ -25,6 +26,8 @@ public class DrivenAdapterSecrets implements ModuleFactory {
       } else {
         secretLibrary = "aws-secrets-manager-sync";
         builder.setupFromTemplate("driven-adapter/secrets");
+        VirtualThreads.warnPinning(
+            builder, "secrets", "the sync secrets client may block inside synchronized code");
       }
       logger.lifecycle("Generating mode for aws secrets");
       builder.appendToProperties("aws").put("region", "us-east-1").put("secretName", "my-secret");
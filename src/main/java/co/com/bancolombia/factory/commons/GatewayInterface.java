@@ -0,0 +1,212 @@
+package co.com.bancolombia.factory.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Source level read of a domain gateway, enough for the plain interfaces of the model module,
+// default and static methods are skipped because they have a body
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GatewayInterface {
+  private static final Pattern PACKAGE = Pattern.compile("\\bpackage\\s+([\\w.]+)\\s*;");
+  private static final Pattern IMPORT =
+      Pattern.compile("\\bimport\\s+(static\\s+)?([\\w.*]+)\\s*;");
+  private static final Pattern ANNOTATION = Pattern.compile("@\\s*[\\w.]+\\s*");
+  private static final Pattern METHOD =
+      Pattern.compile("(.+?)\\s+(\\w+)\\s*\\((.*)\\)(\\s*throws\\s+.+)?", Pattern.DOTALL);
+  private static final List<String> MODIFIERS = Arrays.asList("public", "abstract", "final");
+
+  private final String packageName;
+  private final String name;
+  private final List<String> imports;
+  private final List<Method> methods;
+
+  public static GatewayInterface parse(String name, String source) {
+    String code = strip(source);
+    Matcher packageMatcher = PACKAGE.matcher(code);
+    String packageName = packageMatcher.find() ? packageMatcher.group(1) : "";
+    List<String> imports = new ArrayList<>();
+    Matcher importMatcher = IMPORT.matcher(code);
+    while (importMatcher.find()) {
+      if (importMatcher.group(1) == null) {
+        imports.add(importMatcher.group(2));
+      }
+    }
+    Matcher declaration = Pattern.compile("\\binterface\\s+" + name + "\\b[^{]*\\{").matcher(code);
+    if (!declaration.find()) {
+      throw new IllegalArgumentException(name + " is not an interface");
+    }
+    String body = topLevel(code.substring(declaration.end()));
+    List<Method> methods =
+        Arrays.stream(body.split(";"))
+            .map(String::trim)
+            .filter(member -> !member.startsWith("default ") && !member.startsWith("static "))
+            .map(METHOD::matcher)
+            .filter(Matcher::matches)
+            .map(
+                matcher ->
+                    new Method(
+                        stripModifiers(matcher.group(1)),
+                        matcher.group(2),
+                        params(matcher.group(3))))
+            .collect(Collectors.toList());
+    return new GatewayInterface(packageName, name, imports, methods);
+  }
+
+  // drops the comments and the annotations with their arguments, string literals are kept as is
+  // so a parenthesis or a slash inside an annotation argument does not end it early
+  private static String strip(String source) {
+    StringBuilder code = new StringBuilder();
+    int i = 0;
+    while (i < source.length()) {
+      char c = source.charAt(i);
+      if (source.startsWith("//", i)) {
+        i = indexOrEnd(source, "\n", i);
+      } else if (source.startsWith("/*", i)) {
+        code.append(' ');
+        i = Math.min(indexOrEnd(source, "*/", i + 2) + 2, source.length());
+      } else if (c == '"' || c == '\'') {
+        int end = literalEnd(source, i);
+        code.append(source, i, end);
+        i = end;
+      } else if (c == '@') {
+        i = annotationEnd(source, i);
+      } else {
+        code.append(c);
+        i++;
+      }
+    }
+    return code.toString();
+  }
+
+  private static int annotationEnd(String source, int start) {
+    Matcher name = ANNOTATION.matcher(source).region(start, source.length());
+    if (!name.lookingAt()) {
+      return start + 1;
+    }
+    int i = name.end();
+    if (i == source.length() || source.charAt(i) != '(') {
+      return i;
+    }
+    int depth = 0;
+    while (i < source.length()) {
+      char c = source.charAt(i);
+      if (c == '"' || c == '\'') {
+        i = literalEnd(source, i);
+        continue;
+      }
+      if (c == '(') {
+        depth++;
+      } else if (c == ')' && --depth == 0) {
+        return skipSpaces(source, i + 1);
+      }
+      i++;
+    }
+    return i;
+  }
+
+  // index after the closing quote of the char, string or text block literal starting at start
+  private static int literalEnd(String source, int start) {
+    if (source.startsWith("\"\"\"", start)) {
+      return Math.min(indexOrEnd(source, "\"\"\"", start + 3) + 3, source.length());
+    }
+    char quote = source.charAt(start);
+    int i = start + 1;
+    while (i < source.length()) {
+      char c = source.charAt(i);
+      if (c == '\\') {
+        i += 2;
+      } else if (c == quote) {
+        return i + 1;
+      } else {
+        i++;
+      }
+    }
+    return source.length();
+  }
+
+  private static int skipSpaces(String source, int from) {
+    int i = from;
+    while (i < source.length() && Character.isWhitespace(source.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  private static int indexOrEnd(String source, String token, int from) {
+    int index = source.indexOf(token, from);
+    return index < 0 ? source.length() : index;
+  }
+
+  // keeps the members of the interface body, nested bodies are replaced by a member separator
+  private static String topLevel(String body) {
+    StringBuilder members = new StringBuilder();
+    int depth = 0;
+    for (char c : body.toCharArray()) {
+      if (c == '{') {
+        depth++;
+      } else if (c == '}') {
+        if (depth == 0) {
+          break;
+        }
+        if (--depth == 0) {
+          members.append(';');
+        }
+      } else if (depth == 0) {
+        members.append(c);
+      }
+    }
+    return members.toString();
+  }
+
+  private static String stripModifiers(String type) {
+    List<String> tokens = new ArrayList<>(Arrays.asList(type.trim().split("\\s+")));
+    tokens.removeIf(MODIFIERS::contains);
+    return String.join(" ", tokens);
+  }
+
+  private static List<Param> params(String params) {
+    List<Param> result = new ArrayList<>();
+    int depth = 0;
+    int start = 0;
+    for (int i = 0; i <= params.length(); i++) {
+      char c = i < params.length() ? params.charAt(i) : ',';
+      if (c == '<') {
+        depth++;
+      } else if (c == '>') {
+        depth--;
+      } else if (c == ',' && depth == 0) {
+        String param = params.substring(start, i).replaceAll("\\bfinal\\s+", "").trim();
+        if (!param.isEmpty()) {
+          int split = param.lastIndexOf(' ');
+          result.add(
+              new Param(param.substring(0, split).trim(), param.substring(split + 1).trim()));
+        }
+        start = i + 1;
+      }
+    }
+    return result;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Method {
+    private final String returnType;
+    private final String name;
+    private final List<Param> params;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Param {
+    private final String type;
+    private final String name;
+  }
+}
@@ -18,6 +18,10 @@ public class GenericModule {
       "\timplementation(platform(\"software.amazon.awssdk:bom:"
           + Constants.AWS_BOM_VERSION
           + "\"))";
+  private static final String APACHE_HTTP_SERVICE =
+      "software.amazon.awssdk.http.apache.ApacheSdkHttpService";
+  private static final String NETTY_HTTP_SERVICE =
+      "software.amazon.awssdk.http.nio.netty.NettySdkAsyncHttpService";
 
   private GenericModule() {}
 
@@ -40,6 +44,7 @@ public class GenericModule {
 
   public static void addAwsBom(ModuleBuilder builder) throws IOException, CleanException {
     addAwsBomJava(builder);
+    addAwsNativeHints(builder);
     if (builder.withMetrics()) {
       builder.addParam("task-param-name", "metrics");
       GenericModule.generateGenericModule(
@@ -47,6 +52,21 @@ public class GenericModule {
     }
   }
 
+  private static void addAwsNativeHints(ModuleBuilder builder) throws IOException {
+    NativeHints.addResources(
+        builder,
+        NativeHints.APP_SERVICE_DIR,
+        "software/amazon/awssdk/.*execution\\.interceptors",
+        "software/amazon/awssdk/.*\\.properties");
+  }
+
+  // the SDK loads the http client of a sync or async client with a ServiceLoader, so the module
+  // that builds the client registers the one it uses
+  public static void addAwsHttpClientHints(ModuleBuilder builder, String moduleDir, boolean async)
+      throws IOException {
+    NativeHints.addReflection(builder, moduleDir, async ? NETTY_HTTP_SERVICE : APACHE_HTTP_SERVICE);
+  }
+
   private static void addAwsBomJava(ModuleBuilder builder) throws IOException {
     builder.updateFile(
         MAIN_GRADLE,
@@ -0,0 +1,69 @@
+package co.com.bancolombia.factory.commons;
+
+import co.com.bancolombia.exceptions.ParamNotFoundException;
+import co.com.bancolombia.exceptions.ValidationException;
+import co.com.bancolombia.factory.ModuleBuilder;
+import co.com.bancolombia.utils.FileUtils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Entity/data mapper generated at compile time, the adapter helpers take it instead of ObjectMapper.
+// MapStruct maps the properties of the declared types, so it needs the domain model and an
+// adapter model class, it would map nothing between Object types
+public final class MapStructMapper {
+  public static final String PARAM = "include-mapstruct";
+  public static final String PARAM_NAME = "mapper-name";
+  public static final String PARAM_MODEL = "task-param-model";
+  private static final String MODEL_SOURCES = "domain/model/src/main/java";
+
+  private MapStructMapper() {}
+
+  // should be called before generating the adapter, its templates use the model type
+  public static void setup(
+      ModuleBuilder builder, String module, String mapperPackage, String name, String dataType)
+      throws IOException, ParamNotFoundException, ValidationException {
+    if (!builder.getBooleanParam(PARAM)) {
+      return;
+    }
+    String model = builder.getStringParam(PARAM_MODEL);
+    if (model == null || model.isEmpty()) {
+      throw new ValidationException(
+          "No model is set for the MapStruct mapper, usage: gradle generateDrivenAdapter"
+              + " --mapstruct true --model [name]");
+    }
+    builder.addParam("mapper-module", module);
+    builder.addParam("mapper-package", mapperPackage);
+    builder.addParam("mapper-path", mapperPackage.replace('.', '/'));
+    builder.addParam(PARAM_NAME, name);
+    builder.addParam("mapper-data-type", dataType);
+    builder.addParam("mapper-model", model);
+    builder.addParam("mapper-model-import", findModel(builder, model));
+    builder.setupFromTemplate("commons/mapstruct");
+  }
+
+  // adapters whose templates map to Object have no adapter model for MapStruct
+  public static void unsupported(ModuleBuilder builder, String adapter) throws ValidationException {
+    if (builder.getBooleanParam(PARAM)) {
+      throw new ValidationException(
+          "MapStruct is not available for the "
+              + adapter
+              + " adapter, it has no adapter model to map to, generate it without --mapstruct");
+    }
+  }
+
+  private static String findModel(ModuleBuilder builder, String model) throws ValidationException {
+    File sources = builder.getProject().file(MODEL_SOURCES);
+    List<File> found = new ArrayList<>();
+    FileUtils.allFiles(sources, found::add, (dir, fileName) -> fileName.equals(model + ".java"));
+    if (found.isEmpty()) {
+      throw new ValidationException(
+          "Model " + model + " not found in " + MODEL_SOURCES + ", generate it first");
+    }
+    Path relative = sources.toPath().relativize(found.get(0).toPath());
+    String className = relative.toString().replace(File.separatorChar, '.');
+    return className.substring(0, className.length() - ".java".length());
+  }
+}
@@ -0,0 +1,193 @@
+package co.com.bancolombia.factory.commons;
+
+import static co.com.bancolombia.Constants.APP_SERVICE;
+
+import co.com.bancolombia.factory.ModuleBuilder;
+import co.com.bancolombia.utils.FileUtils;
+import co.com.bancolombia.utils.Utils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+// GraalVM reachability metadata per module, native-image reads it from every jar in the classpath
+public final class NativeHints {
+  public static final String APP_SERVICE_DIR = "applications/" + APP_SERVICE;
+  public static final String HINTS_DIR = "src/main/resources/META-INF/native-image";
+  private static final String SOURCES_DIR = "src/main/java";
+  private static final String REFLECT_CONFIG = "reflect-config.json";
+  private static final String RESOURCE_CONFIG = "resource-config.json";
+  private static final String AWS_SDK = "software.amazon.awssdk";
+  private static final String GENERIC_ADAPTER = "getGenericSuperclass()";
+  private static final String NAME = "name";
+  private static final String PATTERN = "pattern";
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  private NativeHints() {}
+
+  public static void addReflection(ModuleBuilder builder, String moduleDir, String... types)
+      throws IOException {
+    if (!builder.withNative() || types.length == 0) {
+      return;
+    }
+    merge(
+        builder,
+        hintsFile(moduleDir, REFLECT_CONFIG),
+        "[]",
+        root -> {
+          ArrayNode entries = (ArrayNode) root;
+          Arrays.stream(types)
+              .filter(type -> !contains(entries, NAME, type))
+              .forEach(
+                  type ->
+                      entries
+                          .addObject()
+                          .put(NAME, type)
+                          .put("allDeclaredConstructors", true)
+                          .put("allDeclaredMethods", true)
+                          .put("allDeclaredFields", true));
+        });
+  }
+
+  // the adapter helpers read the data class from the generic superclass of the adapter, the type
+  // is relative to the project package
+  public static void addGenericAdapter(ModuleBuilder builder, String moduleDir, String... types)
+      throws IOException {
+    String packageName = builder.getStringParam("package");
+    addReflection(
+        builder,
+        moduleDir,
+        Arrays.stream(types).map(type -> packageName + "." + type).toArray(String[]::new));
+  }
+
+  public static void addResources(ModuleBuilder builder, String moduleDir, String... patterns)
+      throws IOException {
+    if (!builder.withNative() || patterns.length == 0) {
+      return;
+    }
+    merge(
+        builder,
+        hintsFile(moduleDir, RESOURCE_CONFIG),
+        "{\"resources\":{\"includes\":[]}}",
+        root -> {
+          ArrayNode includes = (ArrayNode) root.path("resources").path("includes");
+          Arrays.stream(patterns)
+              .filter(pattern -> !contains(includes, PATTERN, pattern))
+              .forEach(pattern -> includes.addObject().put(PATTERN, pattern));
+        });
+  }
+
+  // the hints of a module must declare something, and the project types registered for
+  // reflection must exist in its sources. A module using the AWS SDK or a generic adapter helper
+  // must have hints, any other module may have none
+  public static List<String> validate(File moduleDir, String packageName) {
+    List<String> errors = new ArrayList<>();
+    List<File> files = new ArrayList<>();
+    FileUtils.allFiles(
+        new File(moduleDir, HINTS_DIR),
+        files::add,
+        (dir, name) -> name.equals(REFLECT_CONFIG) || name.equals(RESOURCE_CONFIG));
+    if (files.isEmpty() && requiresHints(moduleDir)) {
+      errors.add("no hints, the module uses the AWS SDK or reads its types by reflection");
+    }
+    files.forEach(file -> errors.addAll(validateFile(moduleDir, packageName, file)));
+    return errors;
+  }
+
+  private static boolean requiresHints(File moduleDir) {
+    for (String build : List.of("build.gradle", "build.gradle.kts")) {
+      File file = new File(moduleDir, build);
+      if (file.exists() && read(file).contains(AWS_SDK)) {
+        return true;
+      }
+    }
+    List<File> adapters = new ArrayList<>();
+    FileUtils.allFiles(
+        new File(moduleDir, SOURCES_DIR),
+        file -> {
+          if (read(file).contains(GENERIC_ADAPTER)) {
+            adapters.add(file);
+          }
+        },
+        (dir, name) -> name.endsWith(".java"));
+    return !adapters.isEmpty();
+  }
+
+  private static String read(File file) {
+    try {
+      return Files.readString(file.toPath());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static List<String> validateFile(File moduleDir, String packageName, File file) {
+    JsonNode root;
+    try {
+      root = MAPPER.readTree(file);
+    } catch (IOException e) {
+      return List.of(file.getName() + " is not valid json: " + e.getMessage());
+    }
+    if (file.getName().equals(RESOURCE_CONFIG)) {
+      return root.path("resources").path("includes").isEmpty()
+          ? List.of(RESOURCE_CONFIG + " includes no resources")
+          : List.of();
+    }
+    if (!root.isArray() || root.isEmpty()) {
+      return List.of(REFLECT_CONFIG + " registers no types");
+    }
+    List<String> errors = new ArrayList<>();
+    for (JsonNode entry : root) {
+      String type = entry.path(NAME).asText();
+      if (packageName != null
+          && type.startsWith(packageName + ".")
+          && !new File(moduleDir, SOURCES_DIR + "/" + type.replace('.', '/') + ".java").exists()) {
+        errors.add(REFLECT_CONFIG + " registers " + type + " which is not in the module sources");
+      }
+    }
+    return errors;
+  }
+
+  private static String hintsFile(String moduleDir, String file) {
+    String moduleName = moduleDir.substring(moduleDir.lastIndexOf('/') + 1);
+    return moduleDir + "/" + HINTS_DIR + "/" + moduleName + "/" + file;
+  }
+
+  private static boolean contains(ArrayNode entries, String field, String value) {
+    for (JsonNode entry : entries) {
+      if (value.equals(entry.path(field).asText())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void merge(
+      ModuleBuilder builder, String path, String empty, Consumer<JsonNode> add)
+      throws IOException {
+    if (!builder.existsFile(path)) {
+      builder.addDir(Utils.extractDir(path));
+      builder.addFile(path, empty);
+    }
+    builder.updateFile(
+        path,
+        content -> {
+          try {
+            JsonNode root = MAPPER.readTree(content);
+            add.accept(root);
+            return MAPPER.writeValueAsString(root);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+}
@@ -18,5 +18,7 @@ public class ObjectMapperFactory implements ModuleFactory {
         buildImplementation(
             "org.reactivecommons.utils:object-mapper:" + Constants.REACTIVE_COMMONS_MAPPER_VERSION);
     builder.appendDependencyToModule(APP_SERVICE, dependency);
+    NativeHints.addReflection(
+        builder, NativeHints.APP_SERVICE_DIR, "org.reactivecommons.utils.ObjectMapperImp");
   }
 }
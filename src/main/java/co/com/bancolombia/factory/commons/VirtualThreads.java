@@ -0,0 +1,22 @@
+package co.com.bancolombia.factory.commons;
+
+import co.com.bancolombia.factory.ModuleBuilder;
+
+// Generated modules that block inside synchronized code pin the carrier of a virtual thread, they
+// are flagged when generated and the tests report the pinning with -Djdk.tracePinnedThreads
+public final class VirtualThreads {
+
+  private VirtualThreads() {}
+
+  public static void warnPinning(ModuleBuilder builder, String module, String reason) {
+    if (builder.withVirtualThreads()) {
+      builder
+          .getProject()
+          .getLogger()
+          .warn(
+              "{} may pin virtual threads: {}, check the pinned threads reported by its tests",
+              module,
+              reason);
+    }
+  }
+}
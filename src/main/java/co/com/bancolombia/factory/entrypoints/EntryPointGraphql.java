@@ -18,6 +18,7 @@ public class EntryPointGraphql implements ModuleFactory {
     }
     builder.appendToSettings("graphql-api", "infrastructure/entry-points");
     builder.appendToProperties("spring.graphql.graphiql").put("enabled", false);
+    builder.appendToProperties("entrypoint.graphql.batch").put("maxBatchSize", 100);
     builder.addParam("reactive", builder.isReactive());
 
     String dependency = buildImplementationFromProject(":graphql-api");
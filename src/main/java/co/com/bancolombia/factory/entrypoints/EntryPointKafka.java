@@ -23,6 +23,11 @@ public class EntryPointKafka implements ModuleFactory {
         .appendToProperties("spring.kafka.consumer")
         .put("bootstrap-servers", "localhost:9092")
         .put("group-id", builder.getProject().getName());
-    builder.appendToProperties("adapters.kafka.consumer").put("topic", "test");
+    builder
+        .appendToProperties("adapters.kafka.consumer")
+        .put("topic", "test")
+        .put("maxConcurrentPartitions", 256)
+        .put("commitBatchSize", 100)
+        .put("commitInterval", "1s");
   }
 }
@@ -6,6 +6,7 @@ import static co.com.bancolombia.utils.Utils.buildImplementationFromProject;
 import co.com.bancolombia.exceptions.CleanException;
 import co.com.bancolombia.factory.ModuleBuilder;
 import co.com.bancolombia.factory.ModuleFactory;
+import co.com.bancolombia.factory.commons.VirtualThreads;
 import java.io.IOException;
 
 public class EntryPointMQ implements ModuleFactory {
@@ -14,6 +15,10 @@ public class EntryPointMQ implements ModuleFactory {
   public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
     builder.setupFromTemplate(getTemplate(builder.isReactive()));
     builder.appendToSettings("mq-listener", "infrastructure/entry-points");
+    if (!builder.isReactive()) {
+      VirtualThreads.warnPinning(
+          builder, "mq-listener", "the IBM MQ client blocks inside synchronized code");
+    }
     String dependency = buildImplementationFromProject(":mq-listener");
     builder.appendDependencyToModule(APP_SERVICE, dependency);
 
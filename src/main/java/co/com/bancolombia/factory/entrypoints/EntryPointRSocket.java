@@ -10,6 +10,7 @@ import co.com.bancolombia.factory.validations.ReactiveTypeValidation;
 import java.io.IOException;
 
 public class EntryPointRSocket implements ModuleFactory {
+  public static final String PARAM_LEASE = "include-lease";
 
   @Override
   public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
@@ -19,5 +20,13 @@ public class EntryPointRSocket implements ModuleFactory {
     String dependency = buildImplementationFromProject(":rsocket-responder");
     builder.appendDependencyToModule(APP_SERVICE, dependency);
     builder.setupFromTemplate("entry-point/rsocket-responder");
+    if (builder.getBooleanParam(PARAM_LEASE)) {
+      builder.setupFromTemplate("entry-point/rsocket-responder/lease");
+      builder
+          .appendToProperties("entrypoint.rsocket.lease")
+          .put("concurrency", 64)
+          .put("period", "1s")
+          .put("initialLatency", "50ms");
+    }
   }
 }
@@ -23,6 +23,7 @@ public class EntryPointSQS implements ModuleFactory {
     builder.appendDependencyToModule(APP_SERVICE, dependency);
 
     GenericModule.addAwsBom(builder);
+    GenericModule.addAwsHttpClientHints(builder, "infrastructure/entry-points/sqs-listener", true);
     builder
         .appendToProperties("entrypoint.sqs")
         .put("region", "us-east-1")
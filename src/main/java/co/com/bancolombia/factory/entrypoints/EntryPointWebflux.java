@@ -12,6 +12,8 @@ import co.com.bancolombia.utils.swagger.Swagger;
 import java.io.IOException;
 
 public class EntryPointWebflux implements ModuleFactory {
+  public static final String PARAM_PERFORMANCE = "include-performance";
+
   @Override
   public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
     VersioningStrategy versioningStrategy =
@@ -43,6 +45,10 @@ public class EntryPointWebflux implements ModuleFactory {
       builder.appendToProperties("jwt").put("json-exp-roles", "/roles");
     }
 
+    if (builder.getBooleanParam(PARAM_PERFORMANCE)) {
+      withPerformance(builder);
+    }
+
     Swagger.fromBuilder(builder, "infrastructure/entry-points/reactive-web", true);
 
     builder.appendToSettings("reactive-web", "infrastructure/entry-points");
@@ -61,6 +67,25 @@ public class EntryPointWebflux implements ModuleFactory {
         .put("allowed-origins", "http://localhost:4200,http://localhost:8080");
   }
 
+  private static void withPerformance(ModuleBuilder builder) throws IOException {
+    builder.setupFromTemplate("entry-point/rest-webflux/performance");
+    builder
+        .appendToProperties("server.compression")
+        .put("enabled", true)
+        .put("min-response-size", "2KB")
+        .put("mime-types", "application/json,application/xml,text/html,text/plain,text/css");
+    builder.appendToProperties("server.http2").put("enabled", true);
+    builder.appendToProperties("spring.codec").put("max-in-memory-size", "512KB");
+    builder
+        .appendToProperties("entrypoint.webflux.event-loop")
+        .put("select-threads", 1)
+        .put("worker-threads", 0);
+    builder
+        .appendToProperties("entrypoint.webflux.etag")
+        .put("max-body-size", "256KB")
+        .put("excluded-paths", "/actuator");
+  }
+
   private static void setupTemplate(ModuleBuilder builder, VersioningStrategy versioningStrategy)
       throws IOException, ParamNotFoundException {
     String templatePath = "entry-point/rest-webflux/router-functions";
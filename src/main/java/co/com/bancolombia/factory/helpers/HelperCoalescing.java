@@ -0,0 +1,26 @@
+package co.com.bancolombia.factory.helpers;
+
+import co.com.bancolombia.exceptions.CleanException;
+import co.com.bancolombia.factory.ModuleBuilder;
+import co.com.bancolombia.factory.validations.ReactiveTypeValidation;
+import java.io.IOException;
+
+// Single-flight helper, concurrent Mono calls for the same key share one downstream subscription
+public class HelperCoalescing extends HelperGeneric {
+  private static final String DEFAULT_NAME = "coalescing";
+
+  @Override
+  public void buildModule(ModuleBuilder builder) throws IOException, CleanException {
+    builder.runValidations(ReactiveTypeValidation.class);
+    String name = builder.getStringParam("task-param-name");
+    if (name == null || name.isEmpty()) {
+      builder.addParam("task-param-name", DEFAULT_NAME);
+    }
+    super.buildModule(builder);
+  }
+
+  @Override
+  protected String template() {
+    return "helper/coalescing";
+  }
+}
@@ -13,6 +13,10 @@ public class HelperGeneric implements ModuleFactory {
         builder,
         "No Helper name is set, usage: gradle generateHelper " + "--name",
         "infrastructure/helpers",
-        "helper/generic");
+        template());
+  }
+
+  protected String template() {
+    return "helper/generic";
   }
 }
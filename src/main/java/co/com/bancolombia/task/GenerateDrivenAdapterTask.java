@@ -1,8 +1,13 @@
 package co.com.bancolombia.task;
 
+import co.com.bancolombia.factory.adapters.DrivenAdapterAsyncEventBus;
 import co.com.bancolombia.factory.adapters.DrivenAdapterBinStash;
+import co.com.bancolombia.factory.adapters.DrivenAdapterCache;
+import co.com.bancolombia.factory.adapters.DrivenAdapterKms;
 import co.com.bancolombia.factory.adapters.DrivenAdapterRedis;
+import co.com.bancolombia.factory.adapters.DrivenAdapterRestConsumer;
 import co.com.bancolombia.factory.adapters.DrivenAdapterSecrets;
+import co.com.bancolombia.factory.commons.MapStructMapper;
 import co.com.bancolombia.task.annotations.CATask;
 import java.util.Arrays;
 import java.util.List;
@@ -24,7 +29,14 @@ public class GenerateDrivenAdapterTask extends AbstractResolvableTypeTask {
 
   private BooleanOption secret = BooleanOption.FALSE;
   private BooleanOption eda = BooleanOption.FALSE;
+  private BooleanOption nearCache = BooleanOption.FALSE;
+  private BooleanOption envelope = BooleanOption.FALSE;
+  private BooleanOption mapstruct = BooleanOption.FALSE;
+  private BooleanOption resilience = BooleanOption.FALSE;
+  private BooleanOption outbox = BooleanOption.FALSE;
   private String tech = "rabbitmq";
+  private String gateway = "";
+  private String model = "";
 
   @Option(option = "url", description = "Set driven adapter url when RESTCONSUMER type")
   public void setUrl(String url) {
@@ -46,6 +58,73 @@ public class GenerateDrivenAdapterTask extends AbstractResolvableTypeTask {
     return Arrays.asList(BooleanOption.values());
   }
 
+  @Option(
+      option = "near-cache",
+      description = "Add a bounded in-process cache in front of REDIS template adapter")
+  public void setNearCache(BooleanOption nearCache) {
+    this.nearCache = nearCache;
+  }
+
+  @OptionValues("near-cache")
+  public List<BooleanOption> getNearCacheOptions() {
+    return Arrays.asList(BooleanOption.values());
+  }
+
+  @Option(
+      option = "envelope",
+      description = "Encrypt locally with cached data keys when KMS type (envelope encryption)")
+  public void setEnvelope(BooleanOption envelope) {
+    this.envelope = envelope;
+  }
+
+  @OptionValues("envelope")
+  public List<BooleanOption> getEnvelopeOptions() {
+    return Arrays.asList(BooleanOption.values());
+  }
+
+  @Option(
+      option = "mapstruct",
+      description =
+          "Map entities with a MapStruct mapper generated at compile time when DYNAMODB or REDIS"
+              + " repository type")
+  public void setMapstruct(BooleanOption mapstruct) {
+    this.mapstruct = mapstruct;
+  }
+
+  @OptionValues("mapstruct")
+  public List<BooleanOption> getMapstructOptions() {
+    return Arrays.asList(BooleanOption.values());
+  }
+
+  @Option(option = "model", description = "Set the domain model mapped by the MapStruct mapper")
+  public void setModel(String model) {
+    this.model = model;
+  }
+
+  @Option(
+      option = "resilience",
+      description = "Add bulkhead, rate limiter and hedged GET requests when RESTCONSUMER type")
+  public void setResilience(BooleanOption resilience) {
+    this.resilience = resilience;
+  }
+
+  @OptionValues("resilience")
+  public List<BooleanOption> getResilienceOptions() {
+    return Arrays.asList(BooleanOption.values());
+  }
+
+  @Option(
+      option = "outbox",
+      description = "Store events in an outbox table relayed in batches when ASYNCEVENTBUS type")
+  public void setOutbox(BooleanOption outbox) {
+    this.outbox = outbox;
+  }
+
+  @OptionValues("outbox")
+  public List<BooleanOption> getOutboxOptions() {
+    return Arrays.asList(BooleanOption.values());
+  }
+
   @Option(option = "eda", description = "Use EDA variant")
   public void setEda(BooleanOption eda) {
     this.eda = eda;
@@ -71,6 +150,13 @@ public class GenerateDrivenAdapterTask extends AbstractResolvableTypeTask {
     this.cacheMode = cacheMode;
   }
 
+  @Option(
+      option = "gateway",
+      description = "Set the model gateway to decorate with a cache-aside cache when CACHE type")
+  public void setGateway(String gateway) {
+    this.gateway = gateway;
+  }
+
   @Option(option = "from-swagger", description = "Generation will be from a swagger.yaml file")
   public void setFromSwagger(String swaggerFile) {
     this.swaggerFile = swaggerFile;
@@ -86,6 +172,14 @@ public class GenerateDrivenAdapterTask extends AbstractResolvableTypeTask {
     builder.addParam("task-param-cache-mode", cacheMode);
     builder.addParam("include-secret", secret == BooleanOption.TRUE);
     builder.addParam(DrivenAdapterRedis.PARAM_MODE, mode);
+    builder.addParam(DrivenAdapterRedis.PARAM_NEAR_CACHE, nearCache == BooleanOption.TRUE);
+    builder.addParam(DrivenAdapterKms.PARAM_ENVELOPE, envelope == BooleanOption.TRUE);
+    builder.addParam(MapStructMapper.PARAM, mapstruct == BooleanOption.TRUE);
+    builder.addParam(MapStructMapper.PARAM_MODEL, model);
+    builder.addParam(
+        DrivenAdapterRestConsumer.PARAM_RESILIENCE, resilience == BooleanOption.TRUE);
+    builder.addParam(DrivenAdapterAsyncEventBus.PARAM_OUTBOX, outbox == BooleanOption.TRUE);
+    builder.addParam(DrivenAdapterCache.PARAM_GATEWAY, gateway);
     builder.addParam("task-param-url", url);
     builder.addParam("swagger-file", swaggerFile);
     builder.addParam("secrets-backend", secretsBackend);
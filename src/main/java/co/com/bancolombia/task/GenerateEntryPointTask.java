@@ -2,7 +2,9 @@ package co.com.bancolombia.task;
 
 import static co.com.bancolombia.Constants.PATH_GRAPHQL;
 
+import co.com.bancolombia.factory.entrypoints.EntryPointRSocket;
 import co.com.bancolombia.factory.entrypoints.EntryPointRestMvcServer.Server;
+import co.com.bancolombia.factory.entrypoints.EntryPointWebflux;
 import co.com.bancolombia.factory.entrypoints.EntryPointWebflux.VersioningStrategy;
 import co.com.bancolombia.task.annotations.CATask;
 import java.util.Arrays;
@@ -24,6 +26,8 @@ public class GenerateEntryPointTask extends AbstractResolvableTypeTask {
   private BooleanOption eda = BooleanOption.FALSE;
   private String tech = "rabbitmq";
   private BooleanOption authorization = BooleanOption.FALSE;
+  private BooleanOption lease = BooleanOption.FALSE;
+  private BooleanOption performance = BooleanOption.FALSE;
 
   @Option(
       option = "server",
@@ -64,6 +68,28 @@ public class GenerateEntryPointTask extends AbstractResolvableTypeTask {
     this.authorization = authorization;
   }
 
+  @Option(option = "lease", description = "Admit rsocket requests through leases when RSOCKET type")
+  public void setLease(BooleanOption lease) {
+    this.lease = lease;
+  }
+
+  @OptionValues("lease")
+  public List<BooleanOption> getLeaseOptions() {
+    return Arrays.asList(BooleanOption.values());
+  }
+
+  @Option(
+      option = "performance",
+      description = "Enable compression, http2, event loop sizing and ETags when WEBFLUX type")
+  public void setPerformance(BooleanOption performance) {
+    this.performance = performance;
+  }
+
+  @OptionValues("performance")
+  public List<BooleanOption> getPerformanceOptions() {
+    return Arrays.asList(BooleanOption.values());
+  }
+
   @Option(option = "eda", description = "Use EDA variant")
   public void setEda(BooleanOption eda) {
     this.eda = eda;
@@ -118,6 +144,8 @@ public class GenerateEntryPointTask extends AbstractResolvableTypeTask {
     builder.addParam("task-param-authorize", authorization == BooleanOption.TRUE);
     builder.addParam("include-swagger", swagger == BooleanOption.TRUE);
     builder.addParam("swagger-file", swaggerFile);
+    builder.addParam(EntryPointRSocket.PARAM_LEASE, lease == BooleanOption.TRUE);
+    builder.addParam(EntryPointWebflux.PARAM_PERFORMANCE, performance == BooleanOption.TRUE);
     appendRCommonsParams();
   }
 
@@ -19,12 +19,19 @@ import org.gradle.api.tasks.options.OptionValues;
     description = "Scaffolding clean architecture project")
 public class GenerateStructureTask extends AbstractCleanArchitectureDefaultTask {
   private static final String REACTIVE = "reactive";
+  private static final String NATIVE = "native";
+  private static final String CRAC = "crac";
+  private static final String VIRTUAL_THREADS = "virtual-threads";
   private String packageName = "co.com.bancolombia";
   private ProjectType type = ProjectType.REACTIVE;
   private String name = "cleanArchitecture";
   private BooleanOption lombok = BooleanOption.TRUE;
   private BooleanOption metrics = BooleanOption.TRUE;
   private BooleanOption mutation = BooleanOption.TRUE;
+  private BooleanOption asyncLogging = BooleanOption.FALSE;
+  private BooleanOption nativeImage = BooleanOption.FALSE;
+  private BooleanOption crac = BooleanOption.FALSE;
+  private BooleanOption virtualThreads = BooleanOption.FALSE;
   private BooleanOption force = BooleanOption.FALSE;
   private BooleanOption withExample = BooleanOption.FALSE;
   private JavaVersion javaVersion = JavaVersion.VERSION_17;
@@ -61,6 +68,34 @@ public class GenerateStructureTask extends AbstractCleanArchitectureDefaultTask
     this.mutation = mutation;
   }
 
+  @Option(
+      option = "async-logging",
+      description = "Use Log4j2 async loggers with a JSON layout in the application service")
+  public void setAsyncLogging(BooleanOption asyncLogging) {
+    this.asyncLogging = asyncLogging;
+  }
+
+  @Option(
+      option = "native",
+      description = "Set if this project should be built as a GraalVM native image with Spring AOT")
+  public void setNativeImage(BooleanOption nativeImage) {
+    this.nativeImage = nativeImage;
+  }
+
+  @Option(
+      option = "crac",
+      description = "Set if this project should support CRaC checkpoint and restore")
+  public void setCrac(BooleanOption crac) {
+    this.crac = crac;
+  }
+
+  @Option(
+      option = "virtual-threads",
+      description = "Run requests, @Async and listeners on virtual threads (imperative, VERSION_21)")
+  public void setVirtualThreads(BooleanOption virtualThreads) {
+    this.virtualThreads = virtualThreads;
+  }
+
   @Option(option = "javaVersion", description = "Set Java version")
   public void setJavaVersion(JavaVersion javaVersion) {
     this.javaVersion = javaVersion;
@@ -91,6 +126,26 @@ public class GenerateStructureTask extends AbstractCleanArchitectureDefaultTask
     return Arrays.asList(BooleanOption.values());
   }
 
+  @OptionValues("async-logging")
+  public List<BooleanOption> getAsyncLoggingOptions() {
+    return Arrays.asList(BooleanOption.values());
+  }
+
+  @OptionValues("native")
+  public List<BooleanOption> getNativeOptions() {
+    return Arrays.asList(BooleanOption.values());
+  }
+
+  @OptionValues("crac")
+  public List<BooleanOption> getCracOptions() {
+    return Arrays.asList(BooleanOption.values());
+  }
+
+  @OptionValues("virtual-threads")
+  public List<BooleanOption> getVirtualThreadsOptions() {
+    return Arrays.asList(BooleanOption.values());
+  }
+
   @OptionValues("force")
   public List<BooleanOption> getForceOptions() {
     return Arrays.asList(BooleanOption.values());
@@ -115,6 +170,10 @@ public class GenerateStructureTask extends AbstractCleanArchitectureDefaultTask
     builder.addParam("metrics", metrics == BooleanOption.TRUE);
     builder.addParam("example", withExample == BooleanOption.TRUE);
     builder.addParam("mutation", mutation == BooleanOption.TRUE);
+    builder.addParam("async-logging", asyncLogging == BooleanOption.TRUE);
+    builder.addParam(NATIVE, nativeImage == BooleanOption.TRUE);
+    builder.addParam(CRAC, crac == BooleanOption.TRUE);
+    builder.addParam(VIRTUAL_THREADS, useVirtualThreads());
     builder.addParam("javaVersion", javaVersion);
     builder.addParam("java17", javaVersion == JavaVersion.VERSION_17);
     builder.addParam("java21", javaVersion == JavaVersion.VERSION_21);
@@ -129,6 +188,9 @@ public class GenerateStructureTask extends AbstractCleanArchitectureDefaultTask
       builder.addParam("lombok", builder.isEnableLombok());
       builder.addParam("metrics", builder.withMetrics());
       builder.addParam("mutation", builder.withMutation());
+      builder.addParam(NATIVE, builder.withNative());
+      builder.addParam(CRAC, builder.withCrac());
+      builder.addParam(VIRTUAL_THREADS, builder.withVirtualThreads());
       if (builder.isEnableLombok()) {
         builder.setupFromTemplate("structure/restructure");
       } else {
@@ -140,6 +202,12 @@ public class GenerateStructureTask extends AbstractCleanArchitectureDefaultTask
       } else {
         builder.setupFromTemplate("structure/without-lombok");
       }
+      if (asyncLogging == BooleanOption.TRUE) {
+        builder.setupFromTemplate("structure/applications/appservice/async-logging");
+      }
+      if (nativeImage == BooleanOption.TRUE) {
+        builder.setupFromTemplate("structure/applications/appservice/native");
+      }
     }
 
     builder.persist();
@@ -151,6 +219,17 @@ public class GenerateStructureTask extends AbstractCleanArchitectureDefaultTask
     return Optional.of(builder.getBooleanParam(REACTIVE) ? REACTIVE : "imperative");
   }
 
+  private boolean useVirtualThreads() {
+    if (virtualThreads == BooleanOption.FALSE) {
+      return false;
+    }
+    if (type == ProjectType.IMPERATIVE && javaVersion == JavaVersion.VERSION_21) {
+      return true;
+    }
+    logger.warn("Virtual threads are only generated for IMPERATIVE projects with VERSION_21");
+    return false;
+  }
+
   private void loadProperty(String property) {
     try {
       String propertyValue = FileUtils.readProperties(".", property);
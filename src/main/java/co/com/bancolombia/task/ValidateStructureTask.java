@@ -3,6 +3,7 @@ package co.com.bancolombia.task;
 import static co.com.bancolombia.Constants.APP_SERVICE;
 
 import co.com.bancolombia.exceptions.CleanException;
+import co.com.bancolombia.factory.commons.NativeHints;
 import co.com.bancolombia.factory.validations.architecture.ArchitectureValidation;
 import co.com.bancolombia.task.annotations.CATask;
 import co.com.bancolombia.utils.FileUtils;
@@ -154,11 +155,31 @@ public abstract class ValidateStructureTask extends AbstractCleanArchitectureDef
   private void validateModule(AtomicBoolean valid, Map.Entry<String, Project> moduleFiltered) {
     logger.lifecycle("Validating {} Module", moduleFiltered.getKey());
     validateDependencies(valid, moduleFiltered);
+    validateNativeHints(valid, moduleFiltered);
     if (!valid.get()) {
       logger.error("--- {} is violating a rule", moduleFiltered.getKey());
     }
   }
 
+  private void validateNativeHints(AtomicBoolean valid, Map.Entry<String, Project> module) {
+    if (!builder.withNative()) {
+      return;
+    }
+    List<String> errors =
+        NativeHints.validate(
+            module.getValue().getProjectDir(), builder.getStringParam("package"));
+    errors.forEach(
+        error ->
+            logger.error(
+                "--- {} has invalid native image hints in {}: {}",
+                module.getKey(),
+                NativeHints.HINTS_DIR,
+                error));
+    if (!errors.isEmpty()) {
+      valid.set(false);
+    }
+  }
+
   private boolean validateExistingModule(String module) {
     return (getProject().getChildProjects().containsKey(module));
   }
@@ -0,0 +1,107 @@
+package co.com.bancolombia.factory.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class GatewayInterfaceTest {
+
+  @Test
+  void shouldReadPackageImportsAndMethods() {
+    // Arrange
+    String source =
+        "package co.com.bancolombia.model.product.gateways;\n\n"
+            + "import co.com.bancolombia.model.product.Product;\n"
+            + "import static java.util.Objects.requireNonNull;\n"
+            + "import reactor.core.publisher.Mono;\n\n"
+            + "public interface ProductRepository {\n"
+            + "    // single product\n"
+            + "    Mono<Product> findById(String id);\n"
+            + "    /* paged */\n"
+            + "    public abstract Mono<Long> count(\n"
+            + "        Map<String, List<String>> filters, final int page);\n"
+            + "    void delete(String id) throws IOException;\n"
+            + "}\n";
+    // Act
+    GatewayInterface gateway = GatewayInterface.parse("ProductRepository", source);
+    // Assert
+    assertEquals("co.com.bancolombia.model.product.gateways", gateway.getPackageName());
+    assertEquals(
+        List.of("co.com.bancolombia.model.product.Product", "reactor.core.publisher.Mono"),
+        gateway.getImports());
+    assertEquals(List.of("findById", "count", "delete"), names(gateway));
+    GatewayInterface.Method count = gateway.getMethods().get(1);
+    assertEquals("Mono<Long>", count.getReturnType());
+    assertEquals("Map<String, List<String>>", count.getParams().get(0).getType());
+    assertEquals("filters", count.getParams().get(0).getName());
+    assertEquals("int", count.getParams().get(1).getType());
+    assertEquals("page", count.getParams().get(1).getName());
+    assertEquals("void", gateway.getMethods().get(2).getReturnType());
+  }
+
+  @Test
+  void shouldSkipDefaultAndStaticMethods() {
+    // Arrange
+    String source =
+        "package gateways;\n"
+            + "public interface ProductRepository {\n"
+            + "    Mono<Product> findById(String id);\n"
+            + "    default Mono<Void> deleteAll() {\n"
+            + "        return Mono.empty();\n"
+            + "    }\n"
+            + "    static String key(String id) {\n"
+            + "        return \"product:\" + id;\n"
+            + "    }\n"
+            + "    Mono<Product> save(Product product);\n"
+            + "}\n";
+    // Act
+    GatewayInterface gateway = GatewayInterface.parse("ProductRepository", source);
+    // Assert
+    assertEquals(List.of("findById", "save"), names(gateway));
+  }
+
+  @Test
+  void shouldDropAnnotationsWithNestedParentheses() {
+    // Arrange
+    String source =
+        "package gateways;\n"
+            + "@FunctionalInterface\n"
+            + "public interface ProductRepository {\n"
+            + "    @Query(value = \"select * from product where id in (:ids) and (a) // b\","
+            + " hints = @Hint(name = (\"x\")))\n"
+            + "    Flux<Product> findAll(@Param(\"ids\") List<@Size(max = (10)) String> ids);\n"
+            + "    @Deprecated(since = \")\")\n"
+            + "    Mono<Product> findById(@NonNull String id);\n"
+            + "}\n";
+    // Act
+    GatewayInterface gateway = GatewayInterface.parse("ProductRepository", source);
+    // Assert
+    assertEquals(List.of("findAll", "findById"), names(gateway));
+    GatewayInterface.Method findAll = gateway.getMethods().get(0);
+    assertEquals("Flux<Product>", findAll.getReturnType());
+    assertEquals("List<String>", findAll.getParams().get(0).getType());
+    assertEquals("ids", findAll.getParams().get(0).getName());
+    GatewayInterface.Method findById = gateway.getMethods().get(1);
+    assertEquals("String", findById.getParams().get(0).getType());
+    assertEquals("id", findById.getParams().get(0).getName());
+  }
+
+  @Test
+  void shouldFailWhenNotAnInterface() {
+    // Arrange
+    String source = "package gateways;\npublic class ProductRepository {\n}\n";
+    // Act
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> GatewayInterface.parse("ProductRepository", source));
+  }
+
+  private static List<String> names(GatewayInterface gateway) {
+    return gateway.getMethods().stream()
+        .map(GatewayInterface.Method::getName)
+        .collect(Collectors.toList());
+  }
+}
@@ -1,5 +1,6 @@
 package co.com.bancolombia.task;
 
+import static co.com.bancolombia.TestUtils.assertFileContains;
 import static co.com.bancolombia.TestUtils.assertFilesExistsInDir;
 import static co.com.bancolombia.TestUtils.createTask;
 import static co.com.bancolombia.TestUtils.deleteStructure;
@@ -10,9 +11,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import co.com.bancolombia.exceptions.CleanException;
+import co.com.bancolombia.exceptions.ValidationException;
 import co.com.bancolombia.factory.adapters.DrivenAdapterRedis;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import org.gradle.api.Project;
@@ -106,7 +109,34 @@ class GenerateDrivenAdapterTaskImperativeTest {
         "src/main/java/co/com/bancolombia/consumer/RestConsumer.java",
         "src/main/java/co/com/bancolombia/consumer/ObjectResponse.java",
         "src/main/java/co/com/bancolombia/consumer/ObjectRequest.java",
-        "src/main/java/co/com/bancolombia/consumer/config/RestConsumerConfig.java");
+        "src/main/java/co/com/bancolombia/consumer/config/RestConsumerConfig.java",
+        "src/main/java/co/com/bancolombia/consumer/config/RestConsumerProperties.java",
+        "src/test/java/co/com/bancolombia/consumer/config/RestConsumerConfigTest.java");
+    assertFileContains(
+        TEST_DIR + "/applications/app-service/src/main/resources/application.yaml",
+        "maxRequestsPerHost",
+        "callTimeout");
+  }
+
+  @Test
+  void generateRestConsumerWithResilience() throws IOException, CleanException {
+    // Arrange
+    task.setType("RESTCONSUMER");
+    task.setUrl("http://localhost:8080");
+    task.setResilience(AbstractCleanArchitectureDefaultTask.BooleanOption.TRUE);
+    // Act
+    task.execute();
+    task.setResilience(AbstractCleanArchitectureDefaultTask.BooleanOption.FALSE);
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/driven-adapters/rest-consumer/",
+        "src/main/java/co/com/bancolombia/consumer/hedging/Hedging.java",
+        "src/test/java/co/com/bancolombia/consumer/hedging/HedgingTest.java");
+    assertFileContains(
+        TEST_DIR
+            + "/infrastructure/driven-adapters/rest-consumer/src/main/java/co/com/bancolombia/consumer/RestConsumer.java",
+        "@Bulkhead(name = \"testGet\")",
+        "hedging.execute");
   }
 
   @Test
@@ -138,7 +168,8 @@ class GenerateDrivenAdapterTaskImperativeTest {
         "src/main/java/co/com/bancolombia/jpa/JPARepositoryAdapter.java",
         "src/main/java/co/com/bancolombia/jpa/helper/AdapterOperations.java",
         "src/main/java/co/com/bancolombia/jpa/config/DBSecret.java",
-        "src/main/java/co/com/bancolombia/jpa/config/JpaConfig.java");
+        "src/main/java/co/com/bancolombia/jpa/config/JpaConfig.java",
+        "src/main/java/co/com/bancolombia/jpa/config/JpaAdapterProperties.java");
   }
 
   @Test
@@ -159,6 +190,59 @@ class GenerateDrivenAdapterTaskImperativeTest {
         "src/main/java/co/com/bancolombia/jpa/config/JpaConfig.java");
   }
 
+  @Test
+  void shouldFailMapstructWhenTheAdapterHasNoModel() {
+    // Arrange
+    task.setType("JPA");
+    task.setMapstruct(AbstractCleanArchitectureDefaultTask.BooleanOption.TRUE);
+    task.setModel("Product");
+    // Act
+    assertThrows(ValidationException.class, () -> task.execute());
+    task.setMapstruct(AbstractCleanArchitectureDefaultTask.BooleanOption.FALSE);
+    task.setModel("");
+  }
+
+  @Test
+  void shouldFailMapstructWhenTheModelIsMissing() {
+    // Arrange
+    task.setType("DYNAMODB");
+    task.setMapstruct(AbstractCleanArchitectureDefaultTask.BooleanOption.TRUE);
+    task.setModel("MissingModel");
+    // Act
+    assertThrows(ValidationException.class, () -> task.execute());
+    task.setMapstruct(AbstractCleanArchitectureDefaultTask.BooleanOption.FALSE);
+    task.setModel("");
+  }
+
+  @Test
+  void generateDrivenAdapterRedisRepositoryWithMapstruct() throws IOException, CleanException {
+    // Arrange
+    writeProductModel();
+    task.setType("REDIS");
+    task.setMode(DrivenAdapterRedis.Mode.REPOSITORY);
+    task.setMapstruct(AbstractCleanArchitectureDefaultTask.BooleanOption.TRUE);
+    task.setModel("Product");
+    // Act
+    task.execute();
+    task.setMapstruct(AbstractCleanArchitectureDefaultTask.BooleanOption.FALSE);
+    task.setModel("");
+    // Assert
+    assertFileContains(
+        TEST_DIR
+            + "/infrastructure/driven-adapters/redis/src/main/java/co/com/bancolombia/redis/repository/RedisDataMapper.java",
+        "import co.com.bancolombia.model.product.Product;",
+        "ModelDTO toData(Product entity);",
+        "Product toEntity(ModelDTO data);");
+    assertFileContains(
+        TEST_DIR
+            + "/infrastructure/driven-adapters/redis/src/main/java/co/com/bancolombia/redis/repository/RedisRepositoryAdapter.java",
+        "RepositoryAdapterOperations<Product, ModelDTO",
+        "mapper::toData");
+    assertFileContains(
+        TEST_DIR + "/infrastructure/driven-adapters/redis/build.gradle",
+        "org.mapstruct:mapstruct-processor");
+  }
+
   @Test
   void generateDrivenAdapterMongoRepository() throws IOException, CleanException {
     // Arrange
@@ -173,7 +257,9 @@ class GenerateDrivenAdapterTaskImperativeTest {
         "src/main/java/co/com/bancolombia/mongo/MongoRepositoryAdapter.java",
         "src/main/java/co/com/bancolombia/mongo/helper/AdapterOperations.java",
         "src/main/java/co/com/bancolombia/mongo/config/MongoDBSecret.java",
-        "src/main/java/co/com/bancolombia/mongo/config/MongoConfig.java");
+        "src/main/java/co/com/bancolombia/mongo/config/MongoConfig.java",
+        "src/main/java/co/com/bancolombia/mongo/config/MongoAdapterProperties.java",
+        "src/test/java/co/com/bancolombia/mongo/helper/AdapterOperationsTest.java");
   }
 
   @Test
@@ -237,6 +323,38 @@ class GenerateDrivenAdapterTaskImperativeTest {
         "src/main/java/co/com/bancolombia/redis/template/RedisTemplateAdapter.java");
   }
 
+  @Test
+  void generateDrivenAdapterRedisTemplateWithNearCacheForImperative()
+      throws IOException, CleanException {
+    // Arrange
+    task.setType("REDIS");
+    task.setMode(DrivenAdapterRedis.Mode.TEMPLATE);
+    task.setNearCache(AbstractCleanArchitectureDefaultTask.BooleanOption.TRUE);
+    // Act
+    task.execute();
+    task.setNearCache(AbstractCleanArchitectureDefaultTask.BooleanOption.FALSE);
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/driven-adapters/redis/",
+        "build.gradle",
+        "src/main/java/co/com/bancolombia/redis/template/helper/NearCache.java",
+        "src/main/java/co/com/bancolombia/redis/config/NearCacheConfig.java",
+        "src/main/java/co/com/bancolombia/redis/config/NearCacheProperties.java",
+        "src/main/java/co/com/bancolombia/redis/config/NearCacheInvalidationListener.java",
+        "src/test/java/co/com/bancolombia/redis/template/helper/NearCacheTest.java");
+  }
+
+  @Test
+  void shouldHandleErrorWhenNearCacheInRepositoryMode() {
+    // Arrange
+    task.setType("REDIS");
+    task.setMode(DrivenAdapterRedis.Mode.REPOSITORY);
+    task.setNearCache(AbstractCleanArchitectureDefaultTask.BooleanOption.TRUE);
+    // Act
+    assertThrows(ValidationException.class, () -> task.execute());
+    task.setNearCache(AbstractCleanArchitectureDefaultTask.BooleanOption.FALSE);
+  }
+
   @Test
   void generateDrivenAdapterRedisRepositoryForImperativeWithSecret()
       throws IOException, CleanException {
@@ -269,6 +387,44 @@ class GenerateDrivenAdapterTaskImperativeTest {
         "src/main/java/co/com/bancolombia/binstash/config/BinStashCacheConfig.java");
   }
 
+  @Test
+  void generateCacheDecoratorForImperative() throws IOException, CleanException {
+    // Arrange
+    Path gateway =
+        Path.of(
+            TEST_DIR
+                + "/domain/model/src/main/java/co/com/bancolombia/model/product/gateways/ProductRepository.java");
+    Files.createDirectories(gateway.getParent());
+    Files.writeString(
+        gateway,
+        "package co.com.bancolombia.model.product.gateways;\n\n"
+            + "import co.com.bancolombia.model.product.Product;\n"
+            + "import java.util.List;\n"
+            + "import java.util.Optional;\n\n"
+            + "public interface ProductRepository {\n"
+            + "    Optional<Product> findById(String id, int version);\n"
+            + "    List<Product> findAll();\n"
+            + "    boolean existsById(String id);\n"
+            + "    void deleteById(String id);\n"
+            + "}\n");
+    task.setType("CACHE");
+    task.setGateway("ProductRepository");
+    // Act
+    task.execute();
+    task.setGateway("");
+    // Assert
+    assertFileContains(
+        TEST_DIR
+            + "/infrastructure/driven-adapters/bin-stash/src/main/java/co/com/bancolombia/binstash/cache/ProductRepositoryCache.java",
+        "public Optional<Product> findById(String id, int version)",
+        "key(\"findById\", id, version), Product.class,",
+        ".orElse(null))).blockOptional();",
+        "key(\"existsById\", id), Boolean.class,",
+        "public List<Product> findAll()",
+        "delegate.deleteById(id);",
+        "cache.invalidate().block();");
+  }
+
   @Test
   void generateDrivenAdapterKMSForImperative() throws IOException, CleanException {
     // Arrange
@@ -284,6 +440,27 @@ class GenerateDrivenAdapterTaskImperativeTest {
         "src/main/java/co/com/bancolombia/kms/config/model/KmsConnectionProperties.java");
   }
 
+  @Test
+  void generateDrivenAdapterKMSWithEnvelopeForImperative() throws IOException, CleanException {
+    // Arrange
+    task.setType("KMS");
+    task.setEnvelope(AbstractCleanArchitectureDefaultTask.BooleanOption.TRUE);
+    // Act
+    task.execute();
+    task.setEnvelope(AbstractCleanArchitectureDefaultTask.BooleanOption.FALSE);
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/driven-adapters/kms-repository/",
+        "src/main/java/co/com/bancolombia/kms/envelope/DataKeyCache.java",
+        "src/main/java/co/com/bancolombia/kms/envelope/EnvelopeCipher.java",
+        "src/main/java/co/com/bancolombia/kms/config/model/KmsEnvelopeProperties.java",
+        "src/test/java/co/com/bancolombia/kms/envelope/DataKeyCacheTest.java");
+    assertFileContains(
+        TEST_DIR
+            + "/infrastructure/driven-adapters/kms-repository/src/main/java/co/com/bancolombia/kms/KmsAdapter.java",
+        "public String encryptEnvelope(byte[] payload)");
+  }
+
   @Test
   void generateDrivenAdapterS3ForImperative() throws IOException, CleanException {
     // Arrange
@@ -309,4 +486,43 @@ class GenerateDrivenAdapterTaskImperativeTest {
     // Assert
     assertFilesExistsInDir(TEST_DIR + "/infrastructure/driven-adapters/dynamo-db/", "build.gradle");
   }
+
+  @Test
+  void generateDrivenAdapterDynamoDBWithMapstruct() throws IOException, CleanException {
+    // Arrange
+    writeProductModel();
+    task.setType("DYNAMODB");
+    task.setMapstruct(AbstractCleanArchitectureDefaultTask.BooleanOption.TRUE);
+    task.setModel("Product");
+    // Act
+    task.execute();
+    task.setMapstruct(AbstractCleanArchitectureDefaultTask.BooleanOption.FALSE);
+    task.setModel("");
+    // Assert
+    assertFileContains(
+        TEST_DIR
+            + "/infrastructure/driven-adapters/dynamo-db/src/main/java/co/com/bancolombia/dynamodb/DynamoDBDataMapper.java",
+        "ModelEntity toData(Product entity);",
+        "Product toEntity(ModelEntity data);");
+    assertFileContains(
+        TEST_DIR
+            + "/infrastructure/driven-adapters/dynamo-db/src/main/java/co/com/bancolombia/dynamodb/DynamoDBTemplateAdapter.java",
+        "TemplateAdapterOperations<Product, String, ModelEntity",
+        "super(connectionFactory, mapper::toData, mapper::toEntity,",
+        "public List<Product> getEntityBySomeKeys(");
+  }
+
+  private static void writeProductModel() throws IOException {
+    Path model =
+        Path.of(
+            TEST_DIR
+                + "/domain/model/src/main/java/co/com/bancolombia/model/product/Product.java");
+    Files.createDirectories(model.getParent());
+    Files.writeString(
+        model,
+        "package co.com.bancolombia.model.product;\n\n"
+            + "public class Product {\n"
+            + "    private String id;\n"
+            + "}\n");
+  }
 }
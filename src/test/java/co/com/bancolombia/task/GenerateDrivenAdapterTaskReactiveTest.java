@@ -7,6 +7,7 @@ import static co.com.bancolombia.TestUtils.deleteStructure;
 import static co.com.bancolombia.TestUtils.getTask;
 import static co.com.bancolombia.TestUtils.getTestDir;
 import static co.com.bancolombia.TestUtils.setupProject;
+import static co.com.bancolombia.task.AbstractCleanArchitectureDefaultTask.BooleanOption.FALSE;
 import static co.com.bancolombia.task.AbstractCleanArchitectureDefaultTask.BooleanOption.TRUE;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -16,6 +17,7 @@ import co.com.bancolombia.factory.adapters.DrivenAdapterRedis;
 import co.com.bancolombia.factory.adapters.DrivenAdapterSecrets;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import org.gradle.api.Project;
 import org.gradle.testfixtures.ProjectBuilder;
@@ -51,6 +53,89 @@ class GenerateDrivenAdapterTaskReactiveTest {
     deleteStructure(Path.of(TEST_DIR));
   }
 
+  @Test
+  void generateKafkaProducer() throws IOException, CleanException {
+    // Arrange
+    task.setType("KAFKAPRODUCER");
+    // Act
+    task.execute();
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/driven-adapters/kafka-producer/",
+        "build.gradle",
+        "src/main/java/co/com/bancolombia/kafka/producer/KafkaProducerAdapter.java",
+        "src/main/java/co/com/bancolombia/kafka/producer/config/KafkaProducerConfig.java",
+        "src/main/java/co/com/bancolombia/kafka/producer/config/KafkaProducerProperties.java",
+        "src/test/java/co/com/bancolombia/kafka/producer/KafkaProducerAdapterTest.java");
+    assertFileContains(
+        TEST_DIR + "/applications/app-service/src/main/resources/application.yaml",
+        "compressionType",
+        "maxInFlightRecords");
+  }
+
+  @Test
+  void generateCacheDecoratorForGateway() throws IOException, CleanException {
+    // Arrange
+    Path gateway =
+        Path.of(
+            TEST_DIR
+                + "/domain/model/src/main/java/co/com/bancolombia/model/product/gateways/ProductRepository.java");
+    Files.createDirectories(gateway.getParent());
+    Files.writeString(
+        gateway,
+        "package co.com.bancolombia.model.product.gateways;\n\n"
+            + "import co.com.bancolombia.model.product.Product;\n"
+            + "import reactor.core.publisher.Flux;\n"
+            + "import reactor.core.publisher.Mono;\n\n"
+            + "public interface ProductRepository {\n"
+            + "    @Deprecated(since = \"(1.0)\")\n"
+            + "    Mono<Product> findById(String id);\n"
+            + "    Flux<Product> findAll();\n"
+            + "    Mono<Product> save(Product product);\n"
+            + "    default Mono<Void> deleteAll() {\n"
+            + "        return Mono.empty();\n"
+            + "    }\n"
+            + "}\n");
+    task.setType("CACHE");
+    task.setGateway("ProductRepository");
+    // Act
+    task.execute();
+    task.setGateway("");
+    // Assert
+    String dir = TEST_DIR + "/infrastructure/driven-adapters/bin-stash/";
+    assertFilesExistsInDir(
+        dir,
+        "build.gradle",
+        "src/main/java/co/com/bancolombia/binstash/cache/ProductRepositoryCache.java",
+        "src/main/java/co/com/bancolombia/binstash/cache/ProductRepositoryCacheConfig.java",
+        "src/main/java/co/com/bancolombia/binstash/cache/CacheProperties.java",
+        "src/main/java/co/com/bancolombia/binstash/cache/GatewayCache.java",
+        "src/test/java/co/com/bancolombia/binstash/cache/GatewayCacheTest.java");
+    assertFileContains(
+        dir + "src/main/java/co/com/bancolombia/binstash/cache/ProductRepositoryCache.java",
+        "import co.com.bancolombia.model.product.gateways.*;",
+        "public Mono<Product> findById(String id)",
+        "return cache.read(\"findById\", key(\"findById\", id), Product.class,",
+        "() -> delegate.findById(id));",
+        "return delegate.findAll();",
+        "return cache.invalidateAfter(delegate.save(product));");
+    assertFileContains(
+        TEST_DIR + "/applications/app-service/src/main/resources/application.yaml",
+        "defaultTtl",
+        "versionTtl",
+        "productRepository");
+  }
+
+  @Test
+  void shouldFailCacheDecoratorWhenGatewayIsMissing() {
+    // Arrange
+    task.setType("CACHE");
+    task.setGateway("MissingRepository");
+    // Act
+    assertThrows(ValidationException.class, () -> task.execute());
+    task.setGateway("");
+  }
+
   @Test
   void generateRsocketRequester() throws IOException, CleanException {
     // Arrange
@@ -62,8 +147,14 @@ class GenerateDrivenAdapterTaskReactiveTest {
         TEST_DIR + "/infrastructure/driven-adapters/rsocket-requester/",
         "build.gradle",
         "src/main/java/co/com/bancolombia/rsocket/config/RequesterConfig.java",
+        "src/main/java/co/com/bancolombia/rsocket/config/RequesterProperties.java",
         "src/main/java/co/com/bancolombia/rsocket/service/RsocketAdapter.java",
+        "src/test/java/co/com/bancolombia/rsocket/config/RequesterConfigTest.java",
         "src/test/java/co/com/bancolombia/rsocket/service");
+    assertFileContains(
+        TEST_DIR + "/applications/app-service/src/main/resources/application.yaml",
+        "targets",
+        "sessionDuration");
   }
 
   @Test
@@ -80,7 +171,8 @@ class GenerateDrivenAdapterTaskReactiveTest {
         "src/main/java/co/com/bancolombia/mongo/MongoRepositoryAdapter.java",
         "src/main/java/co/com/bancolombia/mongo/helper/AdapterOperations.java",
         "src/main/java/co/com/bancolombia/mongo/config/MongoDBSecret.java",
-        "src/main/java/co/com/bancolombia/mongo/config/MongoConfig.java");
+        "src/main/java/co/com/bancolombia/mongo/config/MongoConfig.java",
+        "src/main/java/co/com/bancolombia/mongo/config/MongoAdapterProperties.java");
   }
 
   @Test
@@ -97,7 +189,35 @@ class GenerateDrivenAdapterTaskReactiveTest {
         "src/main/java/co/com/bancolombia/consumer/RestConsumer.java",
         "src/main/java/co/com/bancolombia/consumer/ObjectResponse.java",
         "src/main/java/co/com/bancolombia/consumer/ObjectRequest.java",
-        "src/main/java/co/com/bancolombia/consumer/config/RestConsumerConfig.java");
+        "src/main/java/co/com/bancolombia/consumer/config/RestConsumerConfig.java",
+        "src/main/java/co/com/bancolombia/consumer/config/RestConsumerProperties.java",
+        "src/test/java/co/com/bancolombia/consumer/config/RestConsumerConfigTest.java");
+    assertFileContains(
+        TEST_DIR + "/applications/app-service/src/main/resources/application.yaml",
+        "pendingAcquireMaxCount",
+        "readTimeout");
+  }
+
+  @Test
+  void generateReactiveRestConsumerWithResilience() throws IOException, CleanException {
+    // Arrange
+    task.setUrl("http://localhost:8080");
+    task.setType("RESTCONSUMER");
+    task.setResilience(TRUE);
+    // Act
+    task.execute();
+    task.setResilience(FALSE);
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/driven-adapters/rest-consumer/",
+        "src/main/java/co/com/bancolombia/consumer/hedging/Hedging.java",
+        "src/main/java/co/com/bancolombia/consumer/hedging/HedgingProperties.java",
+        "src/test/java/co/com/bancolombia/consumer/hedging/HedgingTest.java");
+    assertFileContains(
+        TEST_DIR + "/applications/app-service/src/main/resources/application.yaml",
+        "bulkhead",
+        "ratelimiter",
+        "hedging");
   }
 
   @Test
@@ -132,6 +252,30 @@ class GenerateDrivenAdapterTaskReactiveTest {
         "src/main/java/co/com/bancolombia/model/events/gateways/EventsGateway.java");
   }
 
+  @Test
+  void generateDrivenAdapterEventBusWithOutbox() throws IOException, CleanException {
+    // Arrange
+    task.setType("ASYNCEVENTBUS");
+    task.setOutbox(TRUE);
+    // Act
+    task.execute();
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/driven-adapters/async-event-bus/",
+        "src/main/java/co/com/bancolombia/events/outbox/OutboxEventsGateway.java",
+        "src/main/java/co/com/bancolombia/events/outbox/OutboxRelay.java",
+        "src/main/java/co/com/bancolombia/events/outbox/OutboxRepository.java",
+        "src/main/java/co/com/bancolombia/events/outbox/OutboxProperties.java",
+        "src/main/resources/outbox.sql",
+        "src/test/java/co/com/bancolombia/events/outbox/OutboxRelayTest.java");
+    assertFileContains(
+        TEST_DIR + "/infrastructure/driven-adapters/async-event-bus/build.gradle", "spring-r2dbc");
+    assertFileContains(
+        TEST_DIR + "/infrastructure/driven-adapters/async-event-bus/src/main/resources/outbox.sql",
+        "claimed_until");
+    task.setOutbox(FALSE);
+  }
+
   @Test
   void generateDrivenAdapterEventBusForEda() throws IOException, CleanException {
     // Arrange
@@ -172,9 +316,63 @@ class GenerateDrivenAdapterTaskReactiveTest {
         TEST_DIR + "/infrastructure/driven-adapters/r2dbc-postgresql/",
         "build.gradle",
         "src/main/java/co/com/bancolombia/r2dbc/config/PostgreSQLConnectionPool.java",
+        "src/main/java/co/com/bancolombia/r2dbc/config/PostgresqlAdapterProperties.java",
         "src/main/java/co/com/bancolombia/r2dbc/config/PostgresqlConnectionProperties.java",
+        "src/main/java/co/com/bancolombia/r2dbc/config/PostgresqlPoolProperties.java",
         "src/main/java/co/com/bancolombia/r2dbc/MyReactiveRepository.java",
         "src/main/java/co/com/bancolombia/r2dbc/MyReactiveRepositoryAdapter.java");
+    assertFileContains(
+        TEST_DIR + "/applications/app-service/src/main/resources/application.yaml",
+        "preparedStatementCacheQueries");
+  }
+
+  @Test
+  void shouldFailMapstructWhenTheAdapterHasNoModel() {
+    // Arrange
+    task.setType("R2DBC");
+    task.setMapstruct(TRUE);
+    task.setModel("Product");
+    // Act
+    assertThrows(ValidationException.class, () -> task.execute());
+    task.setMapstruct(FALSE);
+    task.setModel("");
+  }
+
+  @Test
+  void generateDrivenAdapterDynamoDBReactiveWithMapstruct() throws IOException, CleanException {
+    // Arrange
+    Path model =
+        Path.of(
+            TEST_DIR
+                + "/domain/model/src/main/java/co/com/bancolombia/model/product/Product.java");
+    Files.createDirectories(model.getParent());
+    Files.writeString(
+        model,
+        "package co.com.bancolombia.model.product;\n\n"
+            + "public class Product {\n"
+            + "    private String id;\n"
+            + "}\n");
+    task.setType("DYNAMODB");
+    task.setMapstruct(TRUE);
+    task.setModel("Product");
+    // Act
+    task.execute();
+    task.setMapstruct(FALSE);
+    task.setModel("");
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/driven-adapters/dynamo-db/",
+        "src/main/java/co/com/bancolombia/dynamodb/DynamoDBDataMapper.java",
+        "src/test/java/co/com/bancolombia/dynamodb/helper/TemplateAdapterOperationsTest.java");
+    assertFileContains(
+        TEST_DIR
+            + "/infrastructure/driven-adapters/dynamo-db/src/main/java/co/com/bancolombia/dynamodb/DynamoDBTemplateAdapter.java",
+        "import co.com.bancolombia.model.product.Product;",
+        "TemplateAdapterOperations<Product, String, ModelEntity",
+        "public Mono<List<Product>> getEntityBySomeKeys(");
+    assertFileContains(
+        TEST_DIR + "/infrastructure/driven-adapters/dynamo-db/build.gradle",
+        "org.mapstruct:mapstruct:");
   }
 
   @Test
@@ -195,6 +393,31 @@ class GenerateDrivenAdapterTaskReactiveTest {
         "src/main/java/co/com/bancolombia/redis/config/RedisConfig.java");
   }
 
+  @Test
+  void generateDrivenAdapterRedisTemplateWithNearCacheForReactive()
+      throws IOException, CleanException {
+    // Arrange
+    task.setType("REDIS");
+    task.setMode(DrivenAdapterRedis.Mode.TEMPLATE);
+    task.setNearCache(TRUE);
+    // Act
+    task.execute();
+    task.setNearCache(FALSE);
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/driven-adapters/redis/",
+        "src/main/java/co/com/bancolombia/redis/template/helper/NearCache.java",
+        "src/main/java/co/com/bancolombia/redis/config/NearCacheConfig.java",
+        "src/main/java/co/com/bancolombia/redis/config/NearCacheInvalidationListener.java");
+    assertFileContains(
+        TEST_DIR + "/infrastructure/driven-adapters/redis/build.gradle",
+        "com.github.ben-manes.caffeine:caffeine");
+    assertFileContains(
+        TEST_DIR
+            + "/infrastructure/driven-adapters/redis/src/main/java/co/com/bancolombia/redis/config/NearCacheConfig.java",
+        "ReactiveRedisConnectionFactory connectionFactory");
+  }
+
   @Test
   void generateDrivenAdapterKMSForReactive() throws IOException, CleanException {
     // Arrange
@@ -208,6 +431,27 @@ class GenerateDrivenAdapterTaskReactiveTest {
         "src/main/java/co/com/bancolombia/kms/KmsAdapter.java");
   }
 
+  @Test
+  void generateDrivenAdapterKMSWithEnvelopeForReactive() throws IOException, CleanException {
+    // Arrange
+    task.setType("KMS");
+    task.setEnvelope(TRUE);
+    // Act
+    task.execute();
+    task.setEnvelope(FALSE);
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/driven-adapters/kms-repository/",
+        "src/main/java/co/com/bancolombia/kms/envelope/DataKeyCache.java",
+        "src/main/java/co/com/bancolombia/kms/envelope/EnvelopeCipher.java",
+        "src/main/java/co/com/bancolombia/kms/config/model/KmsEnvelopeProperties.java",
+        "src/test/java/co/com/bancolombia/kms/envelope/DataKeyCacheTest.java");
+    assertFileContains(
+        TEST_DIR
+            + "/infrastructure/driven-adapters/kms-repository/src/main/java/co/com/bancolombia/kms/KmsAdapter.java",
+        "public Mono<String> encryptEnvelope(byte[] payload)");
+  }
+
   @Test
   void generateDrivenAdapterS3ForReactive() throws IOException, CleanException {
     // Arrange
@@ -297,6 +541,7 @@ class GenerateDrivenAdapterTaskReactiveTest {
         "src/main/java/co/com/bancolombia/cognito/model/CognitoCredentials.java",
         "src/main/java/co/com/bancolombia/cognito/model/CognitoTokenResponse.java",
         "src/main/java/co/com/bancolombia/cognito/config/CognitoTokenProviderConfig.java",
+        "src/main/java/co/com/bancolombia/cognito/config/CognitoProperties.java",
         "src/main/java/co/com/bancolombia/cognito/CognitoTokenProvider.java");
   }
 }
@@ -1,11 +1,13 @@
 package co.com.bancolombia.task;
 
+import static co.com.bancolombia.TestUtils.assertFileContains;
 import static co.com.bancolombia.TestUtils.assertFilesExistsInDir;
 import static co.com.bancolombia.TestUtils.createTask;
 import static co.com.bancolombia.TestUtils.deleteStructure;
 import static co.com.bancolombia.TestUtils.getTask;
 import static co.com.bancolombia.TestUtils.getTestDir;
 import static co.com.bancolombia.TestUtils.setupProject;
+import static co.com.bancolombia.task.AbstractCleanArchitectureDefaultTask.BooleanOption.FALSE;
 import static co.com.bancolombia.task.AbstractCleanArchitectureDefaultTask.BooleanOption.TRUE;
 
 import co.com.bancolombia.exceptions.CleanException;
@@ -62,6 +64,27 @@ class GenerateEntryPointTaskReactiveTest {
         "src/test/java/co/com/bancolombia/controller");
   }
 
+  @Test
+  void generateEntryPointRsocketResponderWithLease() throws IOException, CleanException {
+    // Arrange
+    task.setType("RSOCKET");
+    task.setLease(TRUE);
+    // Act
+    task.execute();
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/entry-points/rsocket-responder/",
+        "src/main/java/co/com/bancolombia/controller/config/LeaseProperties.java",
+        "src/main/java/co/com/bancolombia/controller/config/LeaseController.java",
+        "src/main/java/co/com/bancolombia/controller/config/LeaseConfig.java",
+        "src/test/java/co/com/bancolombia/controller/config/LeaseControllerTest.java");
+    assertFileContains(
+        TEST_DIR + "/applications/app-service/src/main/resources/application.yaml",
+        "concurrency",
+        "initialLatency");
+    task.setLease(FALSE);
+  }
+
   @Test
   void generateEntryPointApiGraphql() throws IOException, CleanException {
     // Arrange
@@ -73,7 +96,12 @@ class GenerateEntryPointTaskReactiveTest {
         TEST_DIR + "/infrastructure/entry-points/graphql-api/",
         "build.gradle",
         "src/main/java/co/com/bancolombia/graphqlapi/ApiQueries.java",
-        "src/main/java/co/com/bancolombia/graphqlapi/ApiMutations.java");
+        "src/main/java/co/com/bancolombia/graphqlapi/ApiMutations.java",
+        "src/main/java/co/com/bancolombia/graphqlapi/ApiBatchQueries.java",
+        "src/test/java/co/com/bancolombia/graphqlapi/ApiBatchQueriesTest.java");
+    assertFileContains(
+        TEST_DIR + "/applications/app-service/src/main/resources/application.yaml",
+        "maxBatchSize");
   }
 
   @Test
@@ -144,6 +172,31 @@ class GenerateEntryPointTaskReactiveTest {
         "src/test/java/co/com/bancolombia/api/RouterRestTest.java");
   }
 
+  @Test
+  void generateEntryPointReactiveWebWithPerformance() throws IOException, CleanException {
+    // Arrange
+    task.setType("WEBFLUX");
+    task.setPerformance(TRUE);
+
+    // Act
+    task.execute();
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/entry-points/reactive-web/",
+        "src/main/java/co/com/bancolombia/api/config/EventLoopProperties.java",
+        "src/main/java/co/com/bancolombia/api/config/NettyConfig.java",
+        "src/main/java/co/com/bancolombia/api/config/ETagFilter.java",
+        "src/main/java/co/com/bancolombia/api/config/ETagProperties.java",
+        "src/test/java/co/com/bancolombia/api/config/ETagFilterTest.java");
+    assertFileContains(
+        TEST_DIR + "/applications/app-service/src/main/resources/application.yaml",
+        "min-response-size",
+        "max-in-memory-size",
+        "worker-threads",
+        "max-body-size");
+    task.setPerformance(FALSE);
+  }
+
   @Test
   void generateEntryPointReactiveWebWithRouterFunctionsFromSwagger()
       throws IOException, CleanException {
@@ -252,7 +305,10 @@ class GenerateEntryPointTaskReactiveTest {
     assertFilesExistsInDir(
         TEST_DIR + "/infrastructure/entry-points/kafka-consumer/",
         "build.gradle",
-        "src/main/java/co/com/bancolombia/kafka/consumer/KafkaConsumer.java");
+        "src/main/java/co/com/bancolombia/kafka/consumer/KafkaConsumer.java",
+        "src/main/java/co/com/bancolombia/kafka/consumer/PartitionRevocations.java",
+        "src/main/java/co/com/bancolombia/kafka/consumer/config/KafkaConsumerProperties.java",
+        "src/test/java/co/com/bancolombia/kafka/consumer/KafkaConsumerTest.java");
   }
 
   @Test
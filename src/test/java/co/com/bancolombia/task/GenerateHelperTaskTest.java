@@ -1,5 +1,6 @@
 package co.com.bancolombia.task;
 
+import static co.com.bancolombia.TestUtils.assertFileContains;
 import static co.com.bancolombia.TestUtils.assertFilesExistsInDir;
 import static co.com.bancolombia.TestUtils.createTask;
 import static co.com.bancolombia.TestUtils.deleteStructure;
@@ -75,4 +76,24 @@ class GenerateHelperTaskTest {
         "src/main/java/co/com/bancolombia/myhelper",
         "src/test/java/co/com/bancolombia/myhelper");
   }
+
+  @Test
+  void generateHelperCoalescing() throws IOException, CleanException {
+    // Arrange
+    task.setType("COALESCING");
+    task.setName("");
+    // Act
+    task.execute();
+    task.setType("generic");
+    // Assert
+    assertFilesExistsInDir(
+        TEST_DIR + "/infrastructure/helpers/coalescing/",
+        "build.gradle",
+        "src/main/java/co/com/bancolombia/coalescing/RequestCoalescer.java",
+        "src/test/java/co/com/bancolombia/coalescing/RequestCoalescerTest.java");
+    assertFileContains(
+        TEST_DIR
+            + "/infrastructure/helpers/coalescing/src/main/java/co/com/bancolombia/coalescing/RequestCoalescer.java",
+        "public Mono<V> get(K key, Function<? super K, Mono<V>> loader)");
+  }
 }
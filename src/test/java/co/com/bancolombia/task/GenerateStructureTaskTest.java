@@ -1,5 +1,6 @@
 package co.com.bancolombia.task;
 
+import static co.com.bancolombia.TestUtils.assertFileContains;
 import static co.com.bancolombia.TestUtils.assertFilesExistsInDir;
 import static co.com.bancolombia.TestUtils.deleteStructure;
 import static co.com.bancolombia.TestUtils.getTask;
@@ -11,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import co.com.bancolombia.exceptions.CleanException;
 import co.com.bancolombia.task.AbstractCleanArchitectureDefaultTask.BooleanOption;
 import co.com.bancolombia.task.GenerateStructureTask.JavaVersion;
+import co.com.bancolombia.utils.FileUtils;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -105,6 +107,131 @@ class GenerateStructureTaskTest {
         "applications/app-service/src/main/resources/application.yaml",
         "applications/app-service/src/main/resources/log4j2.properties",
         "applications/app-service/src/test/java/co/com/bancolombia");
+    assertFileContains(
+        dir + "/deployment/Dockerfile",
+        "extract --layers",
+        "-XX:SharedArchiveFile=application.jsa");
+    assertFileContains(
+        dir + "/applications/app-service/build.gradle", "cdsArchive", "startupReport");
+  }
+
+  @Test
+  void generateStructureWithAsyncLogging() throws IOException, CleanException {
+    // Arrange
+    String dir = project.getProjectDir().getPath();
+    task.setAsyncLogging(BooleanOption.TRUE);
+    // Act
+    task.execute();
+    // Assert
+    assertFilesExistsInDir(
+        dir, "applications/app-service/src/main/resources/log4j2.component.properties");
+    assertFileContains(
+        dir + "/applications/app-service/build.gradle",
+        "spring-boot-starter-log4j2",
+        "com.lmax:disruptor",
+        "module: 'spring-boot-starter-logging'");
+    assertFileContains(
+        dir + "/applications/app-service/src/main/resources/log4j2.properties",
+        "JsonTemplateLayout");
+  }
+
+  @Test
+  void shouldReturnAsyncLoggingOptions() {
+    // Arrange
+    // Act
+    List<BooleanOption> types = task.getAsyncLoggingOptions();
+    // Assert
+    assertEquals(Arrays.asList(AbstractCleanArchitectureDefaultTask.BooleanOption.values()), types);
+  }
+
+  @Test
+  void generateStructureWithNative() throws IOException, CleanException {
+    // Arrange
+    String dir = project.getProjectDir().getPath();
+    task.setNativeImage(BooleanOption.TRUE);
+    // Act
+    task.execute();
+    // Assert
+    assertFilesExistsInDir(
+        dir,
+        "applications/app-service/src/main/java/co/com/bancolombia/config/NativeHintsConfig.java");
+    assertFileContains(dir + "/gradle.properties", "native=true");
+    assertFileContains(dir + "/build.gradle", "id 'org.graalvm.buildtools.native'");
+    assertFileContains(
+        dir + "/applications/app-service/build.gradle",
+        "apply plugin: 'org.graalvm.buildtools.native'",
+        "graalvmNative");
+  }
+
+  @Test
+  void shouldReturnNativeOptions() {
+    // Arrange
+    // Act
+    List<BooleanOption> types = task.getNativeOptions();
+    // Assert
+    assertEquals(Arrays.asList(AbstractCleanArchitectureDefaultTask.BooleanOption.values()), types);
+  }
+
+  @Test
+  void generateStructureWithCrac() throws IOException, CleanException {
+    // Arrange
+    String dir = project.getProjectDir().getPath();
+    task.setCrac(BooleanOption.TRUE);
+    // Act
+    task.execute();
+    // Assert
+    assertFileContains(dir + "/gradle.properties", "crac=true");
+    assertFileContains(
+        dir + "/applications/app-service/build.gradle",
+        "implementation 'org.crac:crac'",
+        "tasks.register('cracCheckpoint')",
+        "JDK.checkpoint");
+  }
+
+  @Test
+  void shouldReturnCracOptions() {
+    // Arrange
+    // Act
+    List<BooleanOption> types = task.getCracOptions();
+    // Assert
+    assertEquals(Arrays.asList(AbstractCleanArchitectureDefaultTask.BooleanOption.values()), types);
+  }
+
+  @Test
+  void generateStructureWithVirtualThreads() throws IOException, CleanException {
+    // Arrange
+    String dir = project.getProjectDir().getPath();
+    task.setType(GenerateStructureTask.ProjectType.IMPERATIVE);
+    task.setJavaVersion(JavaVersion.VERSION_21);
+    task.setVirtualThreads(BooleanOption.TRUE);
+    // Act
+    task.execute();
+    // Assert
+    assertFileContains(dir + "/gradle.properties", "virtualThreads=true");
+    assertFileContains(dir + "/main.gradle", "-Djdk.tracePinnedThreads=short");
+    assertFileContains(
+        dir + "/applications/app-service/src/main/resources/application.yaml", "virtual");
+  }
+
+  @Test
+  void generateStructureWithVirtualThreadsIgnoredOnReactive() throws IOException, CleanException {
+    // Arrange
+    String dir = project.getProjectDir().getPath();
+    task.setJavaVersion(JavaVersion.VERSION_21);
+    task.setVirtualThreads(BooleanOption.TRUE);
+    // Act
+    task.execute();
+    // Assert
+    assertFalse(FileUtils.readFile(project, "gradle.properties").contains("virtualThreads"));
+  }
+
+  @Test
+  void shouldReturnVirtualThreadsOptions() {
+    // Arrange
+    // Act
+    List<BooleanOption> types = task.getVirtualThreadsOptions();
+    // Assert
+    assertEquals(Arrays.asList(AbstractCleanArchitectureDefaultTask.BooleanOption.values()), types);
   }
 
   @Test
@@ -11,8 +11,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import co.com.bancolombia.exceptions.CleanException;
+import co.com.bancolombia.factory.commons.NativeHints;
+import co.com.bancolombia.task.AbstractCleanArchitectureDefaultTask.BooleanOption;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import org.gradle.api.Project;
 import org.gradle.api.plugins.JavaPlugin;
@@ -26,6 +29,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class ValidateStructureTaskTest {
   private static final String TEST_DIR = getTestDir(ValidateStructureTaskTest.class);
+  private static final String MONGO_DIR =
+      TEST_DIR + "/infrastructure/driven-adapters/mongo-repository/";
   private ValidateStructureTask task;
 
   @BeforeEach
@@ -116,11 +121,17 @@ class ValidateStructureTaskTest {
   }
 
   private void prepareImperativeProject() throws IOException, CleanException {
+    prepareImperativeProject(BooleanOption.FALSE);
+  }
+
+  private void prepareImperativeProject(BooleanOption nativeImage)
+      throws IOException, CleanException {
     Project project = setupProject(ValidateStructureTaskTest.class, GenerateStructureTask.class);
 
     project.getPluginManager().apply(JavaPlugin.class);
 
     GenerateStructureTask generateStructureTask = getTask(project, GenerateStructureTask.class);
+    generateStructureTask.setNativeImage(nativeImage);
     generateStructureTask.execute();
 
     ProjectBuilder.builder()
@@ -245,6 +256,54 @@ class ValidateStructureTaskTest {
     // Assert
   }
 
+  @Test
+  void validateStructureNativeProject() throws IOException, CleanException {
+    // Act
+    this.prepareImperativeProject(BooleanOption.TRUE);
+    task.execute();
+    // Assert
+    assertTrue(
+        new File(MONGO_DIR + NativeHints.HINTS_DIR + "/mongo-repository/reflect-config.json")
+            .exists());
+  }
+
+  @Test
+  void validateStructureNativeProjectWithoutHints() throws IOException, CleanException {
+    // Arrange
+    this.prepareImperativeProject(BooleanOption.TRUE);
+    deleteStructure(Path.of(MONGO_DIR + NativeHints.HINTS_DIR));
+    // Act
+    // Assert
+    assertThrows(CleanException.class, () -> task.execute());
+  }
+
+  @Test
+  void validateStructureNativeProjectWithEmptyHints() throws IOException, CleanException {
+    // Arrange
+    this.prepareImperativeProject(BooleanOption.TRUE);
+    writeMongoReflectConfig("[]");
+    // Act
+    // Assert
+    assertThrows(CleanException.class, () -> task.execute());
+  }
+
+  @Test
+  void validateStructureNativeProjectWithUnknownType() throws IOException, CleanException {
+    // Arrange
+    this.prepareImperativeProject(BooleanOption.TRUE);
+    writeMongoReflectConfig("[{\"name\":\"co.com.bancolombia.mongo.MissingData\"}]");
+    // Act
+    // Assert
+    assertThrows(CleanException.class, () -> task.execute());
+  }
+
+  private void writeMongoReflectConfig(String content) throws IOException {
+    Path file =
+        Path.of(MONGO_DIR + NativeHints.HINTS_DIR + "/mongo-repository/reflect-config.json");
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content);
+  }
+
   @Test
   void validateStructureReactiveProject() throws IOException, CleanException {
     // Act